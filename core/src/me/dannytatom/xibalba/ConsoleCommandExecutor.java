@@ -1,5 +1,6 @@
 package me.dannytatom.xibalba;
 
+import com.badlogic.gdx.math.Vector2;
 import com.strongjoshua.console.CommandExecutor;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
@@ -30,6 +31,7 @@ public class ConsoleCommandExecutor extends CommandExecutor {
   public void setHealth(int amount) {
     AttributesComponent attributes = ComponentMappers.attributes.get(WorldManager.player);
     attributes.health = amount;
+    WorldManager.damaged.dispatch(WorldManager.player);
 
     console.log("[GREEN] Health now at " + attributes.health);
   }
@@ -80,9 +82,10 @@ public class ConsoleCommandExecutor extends CommandExecutor {
    * Teleport to entrance.
    */
   public void goToEntrance() {
-    ComponentMappers.position.get(WorldManager.player).pos.set(
-        WorldManager.world.getCurrentMap().entrance
-    );
+    Vector2 position = WorldManager.world.getCurrentMap().entrance;
+
+    WorldManager.entityHelpers.updatePosition(WorldManager.player, position.x, position.y);
+    WorldManager.world.getCurrentMap().dijkstra.updateTargetPlayerLand();
 
     WorldManager.entityHelpers.updateSenses(WorldManager.player);
   }
@@ -91,9 +94,10 @@ public class ConsoleCommandExecutor extends CommandExecutor {
    * Teleport to exit.
    */
   public void goToExit() {
-    ComponentMappers.position.get(WorldManager.player).pos.set(
-        WorldManager.world.getCurrentMap().exit
-    );
+    Vector2 position = WorldManager.world.getCurrentMap().exit;
+
+    WorldManager.entityHelpers.updatePosition(WorldManager.player, position.x, position.y);
+    WorldManager.world.getCurrentMap().dijkstra.updateTargetPlayerLand();
 
     WorldManager.entityHelpers.updateSenses(WorldManager.player);
   }
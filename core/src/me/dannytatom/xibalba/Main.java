@@ -22,6 +22,7 @@ import java.util.HashMap;
 
 import me.dannytatom.xibalba.screens.LoadingScreen;
 import me.dannytatom.xibalba.utils.CameraShake;
+import me.dannytatom.xibalba.utils.ColorAccessor;
 import me.dannytatom.xibalba.utils.HandheldCamera;
 import me.dannytatom.xibalba.utils.SoundManager;
 import me.dannytatom.xibalba.utils.SpriteAccessor;
@@ -167,6 +168,7 @@ public class Main extends Game {
     tweenManager = new TweenManager();
     Tween.setCombinedAttributesLimit(4);
     Tween.registerAccessor(Sprite.class, new SpriteAccessor());
+    Tween.registerAccessor(Color.class, new ColorAccessor());
 
     // Cameras
     handheldCamera = new HandheldCamera();
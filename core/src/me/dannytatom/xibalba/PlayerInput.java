@@ -14,9 +14,8 @@ import me.dannytatom.xibalba.components.ItemComponent;
 import me.dannytatom.xibalba.components.MouseMovementComponent;
 import me.dannytatom.xibalba.components.PlayerComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
+import me.dannytatom.xibalba.components.actions.Action;
 import me.dannytatom.xibalba.components.actions.ExploreComponent;
-import me.dannytatom.xibalba.components.actions.MovementComponent;
-import me.dannytatom.xibalba.components.actions.RangeComponent;
 import me.dannytatom.xibalba.components.items.WeaponComponent;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
@@ -241,12 +240,12 @@ public class PlayerInput implements InputProcessor {
       // Close dialogs or cancel actions
       case Keys.Q:
         playerDetails.target = null;
-        playerDetails.path = null;
+        playerDetails.path.clear();
 
         if (WorldManager.state == WorldManager.State.MOVING) {
           WorldManager.player.remove(MouseMovementComponent.class);
           WorldManager.player.remove(ExploreComponent.class);
-          WorldManager.player.remove(MovementComponent.class);
+          ComponentMappers.actions.get(WorldManager.player).clear();
         }
 
         WorldManager.state = WorldManager.State.PLAYING;
@@ -268,7 +267,7 @@ public class PlayerInput implements InputProcessor {
           }
 
           playerDetails.target = null;
-          playerDetails.path = null;
+          playerDetails.path.clear();
         }
         break;
       case Keys.SHIFT_LEFT:
@@ -330,7 +329,9 @@ public class PlayerInput implements InputProcessor {
       } else {
         if (ComponentMappers.mouseMovement.get(WorldManager.player) == null) {
           if (WorldManager.mapHelpers.cellExists(mousePosition)
-              && !WorldManager.mapHelpers.getCell(mousePosition.x, mousePosition.y).hidden) {
+              && !WorldManager.world.getCurrentMap().isHidden(
+                  (int) mousePosition.x, (int) mousePosition.y
+              )) {
             WorldManager.player.add(new MouseMovementComponent());
 
             WorldManager.state = WorldManager.State.MOVING;
@@ -378,7 +379,7 @@ public class PlayerInput implements InputProcessor {
     switch (WorldManager.state) {
       case PLAYING:
         playerDetails.target = null;
-        playerDetails.path = null;
+        playerDetails.path.clear();
 
         if (WorldManager.mapHelpers.cellExists(mousePosition)) {
           handleLooking(relativeToPlayer, true);
@@ -388,7 +389,7 @@ public class PlayerInput implements InputProcessor {
         break;
       case LOOKING:
         playerDetails.target = null;
-        playerDetails.path = null;
+        playerDetails.path.clear();
 
         if (WorldManager.mapHelpers.cellExists(mousePosition)) {
           handleLooking(relativeToPlayer, false);
@@ -398,7 +399,7 @@ public class PlayerInput implements InputProcessor {
         break;
       case TARGETING:
         playerDetails.target = null;
-        playerDetails.path = null;
+        playerDetails.path.clear();
 
         if (WorldManager.mapHelpers.cellExists(mousePosition)) {
           WorldManager.inputHelpers.handleTargeting(relativeToPlayer);
@@ -442,8 +443,8 @@ public class PlayerInput implements InputProcessor {
         player.focusedEntity = enemy;
       }
     } else {
-      if (energy >= MovementComponent.COST) {
-        WorldManager.player.add(new MovementComponent(pos));
+      if (energy >= Action.MOVEMENT_COST) {
+        ComponentMappers.actions.get(WorldManager.player).move(pos.x, pos.y);
 
         WorldManager.executeTurn = true;
       }
@@ -451,7 +452,7 @@ public class PlayerInput implements InputProcessor {
 
     PlayerComponent playerDetails = ComponentMappers.player.get(WorldManager.player);
 
-    playerDetails.path = null;
+    playerDetails.path.clear();
   }
 
   private void handleLooking(Vector2 pos, boolean careAboutWalls) {
@@ -478,7 +479,7 @@ public class PlayerInput implements InputProcessor {
   private void handleThrow() {
     AttributesComponent attributes = ComponentMappers.attributes.get(WorldManager.player);
 
-    if (attributes.energy < RangeComponent.COST) {
+    if (attributes.energy < Action.RANGE_COST) {
       return;
     }
 
@@ -504,7 +505,7 @@ public class PlayerInput implements InputProcessor {
   private void handleRange() {
     AttributesComponent attributes = ComponentMappers.attributes.get(WorldManager.player);
 
-    if (attributes.energy < RangeComponent.COST) {
+    if (attributes.energy < Action.RANGE_COST) {
       return;
     }
 
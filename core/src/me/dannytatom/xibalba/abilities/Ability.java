@@ -17,7 +17,26 @@ public class Ability {
   public AttributesComponent.Type targetType;
   public ArrayList<Effect> effects;
   public int recharge;
-  public int counter;
+  // Turn it can next be used on
+  public int readyOn;
+
+  /**
+   * Whether or not it's recharged.
+   *
+   * @return Yes/no
+   */
+  public boolean isReady() {
+    return WorldManager.turnCount >= readyOn;
+  }
+
+  /**
+   * How long until it's recharged.
+   *
+   * @return Turns left, 0 if it's ready
+   */
+  public int turnsLeft() {
+    return Math.max(0, readyOn - WorldManager.turnCount);
+  }
 
   /**
    * Do the ability.
@@ -27,7 +46,7 @@ public class Ability {
    */
   public void act(Entity caster, Entity target) {
     for (Effect effect : effects) {
-      if (this.counter == this.recharge) {
+      if (this.isReady()) {
         if (this.targetRequired) {
           if (target == null) {
             WorldManager.log.add("effects.requiresTarget", this.name);
@@ -45,7 +64,7 @@ public class Ability {
 
         effect.act(caster, target);
 
-        this.counter = 0;
+        this.readyOn = WorldManager.turnCount + this.recharge;
         WorldManager.executeTurn = true;
       } else {
         WorldManager.log.add("effects.failed", this.name);
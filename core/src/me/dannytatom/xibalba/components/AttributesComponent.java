@@ -1,12 +1,15 @@
 package me.dannytatom.xibalba.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import me.dannytatom.xibalba.world.WorldManager;
 
 public class AttributesComponent implements Component {
   public final String description;
   public final String name;
   public final Type type;
-  public float divineFavor;
   public int speed;
   public int maxOxygen;
   public int maxHealth;
@@ -18,8 +21,13 @@ public class AttributesComponent implements Component {
   public int health;
   public int oxygen;
   public int energy;
-  public float[][] visionMap;
-  public float[][] hearingMap;
+  // Who this entity heard making noise, and on what turn, see MapSound
+  public final ObjectIntMap<Entity> heard;
+  // Last turn they heard the player, or anything louder than footsteps
+  public int heardOn;
+  // Divine favor as of favorTurn, it's worked out for later turns when it's asked for
+  private float divineFavor;
+  private int favorTurn;
 
   /**
    * Holds entity attributes.
@@ -51,6 +59,35 @@ public class AttributesComponent implements Component {
     this.health = maxHealth;
     this.oxygen = maxOxygen;
     this.divineFavor = 0.1f;
+    this.favorTurn = WorldManager.turnCount;
+    this.heardOn = -1;
+    this.heard = new ObjectIntMap<>();
+  }
+
+  /**
+   * How much their god favors them. Favor wears off by half a percent every turn.
+   *
+   * @return Favor as of this turn
+   */
+  public float getDivineFavor() {
+    if (favorTurn != WorldManager.turnCount) {
+      if (divineFavor > 0) {
+        divineFavor *= (float) Math.pow(0.995, WorldManager.turnCount - favorTurn);
+      }
+
+      favorTurn = WorldManager.turnCount;
+    }
+
+    return divineFavor;
+  }
+
+  /**
+   * Raise or lower how much their god favors them.
+   *
+   * @param amount How much to change it by
+   */
+  public void changeDivineFavor(float amount) {
+    divineFavor = getDivineFavor() + amount;
   }
 
   public enum Type {
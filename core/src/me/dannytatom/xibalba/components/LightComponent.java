@@ -5,11 +5,20 @@ import com.badlogic.gdx.graphics.Color;
 
 import java.util.ArrayList;
 
+import me.dannytatom.xibalba.world.FovWindow;
+
 public class LightComponent implements Component {
   public final float radius;
   public final boolean flickers;
   public final ArrayList<Color> colors;
 
+  // What the light reached last time it was cast, and from where. Only gets cast again when the
+  // light moves or the map's opacity changes, see MapLight.
+  public final FovWindow footprint = new FovWindow();
+  public int footprintX = -1;
+  public int footprintY = -1;
+  public int footprintVersion = -1;
+
   /**
    * A light source, gives off light color and increases FoV.
    */
@@ -5,15 +5,19 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
-import java.util.List;
-
 import me.dannytatom.xibalba.abilities.Ability;
-
-import org.xguzm.pathfinding.grid.GridCell;
+import me.dannytatom.xibalba.world.FovWindow;
+import me.dannytatom.xibalba.world.Path;
 
 public class PlayerComponent implements Component {
   public final Array<String> identifiedItems = new Array<>();
-  public List<GridCell> path = null;
+  public final Path path = new Path();
+  // How well the player can see each cell around them, for shading. The map keeps track of
+  // what's seen.
+  public final FovWindow visionMap = new FovWindow();
+  // Enemies the player can see, and ones they can only hear, closest first
+  public final Array<Entity> enemiesSeen = new Array<>();
+  public final Array<Entity> enemiesHeard = new Array<>();
   public Vector2 target = null;
   public Entity lastHitEntity = null;
   public FocusedAction focusedAction = null;
@@ -27,6 +31,10 @@ public class PlayerComponent implements Component {
   public int totalDamageReceived = 0;
   public int totalDamageHealed = 0;
 
+  // Where senses were last worked out from, they get worked out again once this isn't it
+  public int sensedX = -1;
+  public int sensedY = -1;
+
   public PlayerComponent() {
 
   }
@@ -0,0 +1,37 @@
+package me.dannytatom.xibalba.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Every status an entity can have, kept in one place so they can come and go every turn without
+ * adding or removing components. Use StatusHelpers to give or take them.
+ */
+public class StatusesComponent implements Component {
+  // A bit for each status they have
+  public int flags = 0;
+
+  // What each status is doing, indexed by Status ordinal
+  public final int[] damage = new int[Status.COUNT];
+  public final int[] life = new int[Status.COUNT];
+  public final int[] counter = new int[Status.COUNT];
+  // Turn each status was first processed on, -1 until it has been
+  public final int[] since = new int[Status.COUNT];
+
+  /**
+   * Whether or not they have a status.
+   *
+   * @param status The status
+   * @return Yes/no
+   */
+  public boolean has(Status status) {
+    return (flags & status.bit) != 0;
+  }
+
+  public enum Status {
+    ENCUMBERED, CHARMED, CRIPPLED, BLEEDING, BURNING, DROWNING, STUCK, POISONED, SICK, WET;
+
+    public static final int COUNT = values().length;
+
+    public final int bit = 1 << ordinal();
+  }
+}
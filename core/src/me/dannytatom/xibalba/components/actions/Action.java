@@ -0,0 +1,45 @@
+package me.dannytatom.xibalba.components.actions;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Something an entity is going to do this turn. Actions are pooled, get them from an
+ * ActionsComponent rather than making new ones.
+ */
+public class Action implements Pool.Poolable {
+  public static final int MOVEMENT_COST = 100;
+  public static final int MELEE_COST = 100;
+  public static final int RANGE_COST = 100;
+
+  public Type type;
+  // Where they're moving to, or where they're aiming
+  public final Vector2 position = new Vector2();
+  // Who they're hitting in melee
+  public Entity target;
+  // What they're throwing or shooting, and with which skill
+  public Entity item;
+  public String skill;
+  public String bodyPart;
+  public boolean isFocused;
+
+  Action() {
+
+  }
+
+  @Override
+  public void reset() {
+    type = null;
+    position.setZero();
+    target = null;
+    item = null;
+    skill = null;
+    bodyPart = null;
+    isFocused = false;
+  }
+
+  public enum Type {
+    MOVEMENT, MELEE, RANGE
+  }
+}
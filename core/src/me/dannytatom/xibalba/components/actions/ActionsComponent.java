@@ -0,0 +1,96 @@
+package me.dannytatom.xibalba.components.actions;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Queue;
+
+/**
+ * Actions an entity has lined up, done in order by the ActionSystem.
+ */
+public class ActionsComponent implements Component {
+  private static final Pool<Action> pool = new Pool<Action>() {
+    @Override
+    protected Action newObject() {
+      return new Action();
+    }
+  };
+
+  public final Queue<Action> queue = new Queue<>();
+
+  /**
+   * Line up a move.
+   *
+   * @param x x of the cell they're moving to
+   * @param y y of the cell they're moving to
+   */
+  public void move(float x, float y) {
+    Action action = pool.obtain();
+    action.type = Action.Type.MOVEMENT;
+    action.position.set(x, y);
+
+    queue.addLast(action);
+  }
+
+  /**
+   * Line up a melee attack.
+   *
+   * @param target    Who they're attacking
+   * @param bodyPart  Where on that entity they're attacking
+   * @param isFocused Is it a focused attack?
+   */
+  public void melee(Entity target, String bodyPart, boolean isFocused) {
+    Action action = pool.obtain();
+    action.type = Action.Type.MELEE;
+    action.target = target;
+    action.bodyPart = bodyPart;
+    action.isFocused = isFocused;
+
+    queue.addLast(action);
+  }
+
+  /**
+   * Line up a ranged attack.
+   *
+   * @param position  Target position
+   * @param item      Item we're using
+   * @param skill     What skill is associated with that item
+   * @param bodyPart  Where we're aiming
+   * @param isFocused Is it a focused attack?
+   */
+  public void range(Vector2 position, Entity item,
+                    String skill, String bodyPart, boolean isFocused) {
+    Action action = pool.obtain();
+    action.type = Action.Type.RANGE;
+    action.position.set(position);
+    action.item = item;
+    action.skill = skill;
+    action.bodyPart = bodyPart;
+    action.isFocused = isFocused;
+
+    queue.addLast(action);
+  }
+
+  /**
+   * Take the next action off the queue. Hand it back with free once it's done.
+   *
+   * @return The next action, null if there isn't one
+   */
+  public Action next() {
+    return queue.size == 0 ? null : queue.removeFirst();
+  }
+
+  public void free(Action action) {
+    pool.free(action);
+  }
+
+  /**
+   * Forget everything lined up.
+   */
+  public void clear() {
+    while (queue.size > 0) {
+      pool.free(queue.removeFirst());
+    }
+  }
+}
@@ -1,13 +1,15 @@
 package me.dannytatom.xibalba.components.actions;
 
 import com.badlogic.ashley.core.Component;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
+
+import me.dannytatom.xibalba.world.Path;
 
 public class ExploreComponent implements Component {
-  public Array<Vector2> path;
+  public final Path path;
+  // Whether an explore map has been asked for and we're waiting on it
+  public boolean waiting;
 
   public ExploreComponent() {
-    path = new Array<>();
+    path = new Path();
   }
 }
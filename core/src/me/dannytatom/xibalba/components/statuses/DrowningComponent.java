@@ -1,9 +0,0 @@
-package me.dannytatom.xibalba.components.statuses;
-
-import com.badlogic.ashley.core.Component;
-
-public class DrowningComponent implements Component {
-  public DrowningComponent() {
-
-  }
-}
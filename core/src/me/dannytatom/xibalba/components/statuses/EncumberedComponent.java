@@ -1,11 +0,0 @@
-package me.dannytatom.xibalba.components.statuses;
-
-import com.badlogic.ashley.core.Component;
-
-public class EncumberedComponent implements Component {
-  public int turnCounter = 0;
-
-  public EncumberedComponent() {
-
-  }
-}
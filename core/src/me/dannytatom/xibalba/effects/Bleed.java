@@ -4,7 +4,7 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.MathUtils;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
-import me.dannytatom.xibalba.components.statuses.BleedingComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
@@ -15,12 +15,12 @@ public class Bleed extends Effect {
 
   @Override
   public void act(Entity caster, Entity target) {
-    if (ComponentMappers.bleeding.has(target)) {
+    if (WorldManager.statusHelpers.has(target, Status.BLEEDING)) {
       return;
     }
 
     if (MathUtils.random() < chance / 100) {
-      target.add(new BleedingComponent(damage, life));
+      WorldManager.statusHelpers.add(target, Status.BLEEDING, damage, life);
 
       if (ComponentMappers.player.has(target)) {
         WorldManager.log.add("effects.bleeding.started", "You", "are");
@@ -3,7 +3,7 @@ package me.dannytatom.xibalba.effects;
 import com.badlogic.ashley.core.Entity;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
-import me.dannytatom.xibalba.components.statuses.CharmedComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
@@ -12,11 +12,11 @@ public class Charm extends Effect {
 
   @Override
   public void act(Entity caster, Entity target) {
-    if (ComponentMappers.charmed.has(target)) {
+    if (WorldManager.statusHelpers.has(target, Status.CHARMED)) {
       return;
     }
 
-    target.add(new CharmedComponent(life));
+    WorldManager.statusHelpers.add(target, Status.CHARMED, 0, life);
 
     if (ComponentMappers.player.has(target)) {
       WorldManager.log.add("effects.charmed.started", "You", "are");
@@ -10,7 +10,7 @@ import me.dannytatom.xibalba.Main;
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
 import me.dannytatom.xibalba.components.VisualComponent;
-import me.dannytatom.xibalba.components.actions.MovementComponent;
+import me.dannytatom.xibalba.components.actions.Action;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.utils.SpriteAccessor;
 import me.dannytatom.xibalba.world.WorldManager;
@@ -20,7 +20,7 @@ public class JumpOverEnemy extends Effect {
   public void act(Entity caster, Entity target) {
     AttributesComponent attributes = ComponentMappers.attributes.get(caster);
 
-    if (attributes.energy >= MovementComponent.COST
+    if (attributes.energy >= Action.MOVEMENT_COST
         && WorldManager.entityHelpers.isNear(caster, target)) {
       PositionComponent casterPosition = ComponentMappers.position.get(caster);
       PositionComponent targetPosition = ComponentMappers.position.get(target);
@@ -56,7 +56,9 @@ public class JumpOverEnemy extends Effect {
                 newPosition.x * Main.SPRITE_WIDTH, newPosition.y * Main.SPRITE_HEIGHT
             ).setCallback((type, source) -> {
               if (type == TweenCallback.COMPLETE) {
-                casterPosition.pos.set(newPosition);
+                WorldManager.entityHelpers.updatePosition(
+                    caster, newPosition.x, newPosition.y
+                );
               }
             })
         );
@@ -10,10 +10,10 @@ import me.dannytatom.xibalba.Main;
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
 import me.dannytatom.xibalba.components.VisualComponent;
-import me.dannytatom.xibalba.components.actions.MeleeComponent;
+import me.dannytatom.xibalba.components.actions.Action;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.utils.SpriteAccessor;
-import me.dannytatom.xibalba.world.MapCell;
+import me.dannytatom.xibalba.world.MapSound;
 import me.dannytatom.xibalba.world.WorldManager;
 
 public class Knockback extends Effect {
@@ -21,12 +21,12 @@ public class Knockback extends Effect {
   public void act(Entity caster, Entity target) {
     AttributesComponent casterAttributes = ComponentMappers.attributes.get(caster);
 
-    if (casterAttributes.energy >= MeleeComponent.COST
+    if (casterAttributes.energy >= Action.MELEE_COST
         && WorldManager.entityHelpers.isNear(caster, target)) {
       PositionComponent casterPosition = ComponentMappers.position.get(caster);
       PositionComponent targetPosition = ComponentMappers.position.get(target);
 
-      caster.add(new MeleeComponent(target, "body", false));
+      ComponentMappers.actions.get(caster).melee(target, "body", false);
 
       int maxDistance = MathUtils.random(1, 3);
 
@@ -41,14 +41,20 @@ public class Knockback extends Effect {
               newPosition.x * Main.SPRITE_WIDTH, newPosition.y * Main.SPRITE_HEIGHT
           ).setCallback((type, source) -> {
             if (type == TweenCallback.COMPLETE) {
-              targetPosition.pos.set(newPosition);
+              WorldManager.entityHelpers.updatePosition(target, newPosition.x, newPosition.y);
 
               Vector2 behindNewPosition = getCellBehind(casterPosition.pos, targetPosition.pos);
 
-              if (WorldManager.mapHelpers.getCell(behindNewPosition).type == MapCell.Type.WALL
+              if (WorldManager.world.getCurrentMap().isWall(
+                  (int) behindNewPosition.x, (int) behindNewPosition.y
+              )
                   || WorldManager.mapHelpers.getEnemyAt(behindNewPosition) != null) {
                 Main.cameraShake.shake(.5f, .1f);
 
+                WorldManager.world.getCurrentMap().sound.makeNoise(
+                    target, (int) newPosition.x, (int) newPosition.y, MapSound.IMPACT
+                );
+
                 WorldManager.tweens.add(
                     Tween.to(targetVisual.sprite, SpriteAccessor.ALPHA, .05f)
                         .target(.25f).repeatYoyo(1, 0f)
@@ -4,7 +4,7 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.MathUtils;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
-import me.dannytatom.xibalba.components.statuses.PoisonedComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
@@ -15,12 +15,12 @@ public class Poison extends Effect {
 
   @Override
   public void act(Entity caster, Entity target) {
-    if (ComponentMappers.poisoned.has(target)) {
+    if (WorldManager.statusHelpers.has(target, Status.POISONED)) {
       return;
     }
 
     if (MathUtils.random() < chance / 100) {
-      target.add(new PoisonedComponent(damage, life));
+      WorldManager.statusHelpers.add(target, Status.POISONED, damage, life);
 
       if (ComponentMappers.player.has(target)) {
         WorldManager.log.add("effects.poisoned.started", "You", "are");
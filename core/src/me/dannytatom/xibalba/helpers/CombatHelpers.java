@@ -16,16 +16,16 @@ import me.dannytatom.xibalba.components.EffectsComponent;
 import me.dannytatom.xibalba.components.GodComponent;
 import me.dannytatom.xibalba.components.ItemComponent;
 import me.dannytatom.xibalba.components.PlayerComponent;
+import me.dannytatom.xibalba.components.PositionComponent;
 import me.dannytatom.xibalba.components.SkillsComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.components.VisualComponent;
-import me.dannytatom.xibalba.components.actions.MeleeComponent;
-import me.dannytatom.xibalba.components.actions.RangeComponent;
+import me.dannytatom.xibalba.components.actions.Action;
 import me.dannytatom.xibalba.components.items.WeaponComponent;
-import me.dannytatom.xibalba.components.statuses.BleedingComponent;
-import me.dannytatom.xibalba.components.statuses.CrippledComponent;
 import me.dannytatom.xibalba.effects.Effect;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.utils.SpriteAccessor;
+import me.dannytatom.xibalba.world.MapSound;
 import me.dannytatom.xibalba.world.WorldManager;
 
 /**
@@ -37,7 +37,7 @@ public class CombatHelpers {
   }
 
   /**
-   * Add MeleeComponent to player.
+   * Line up a melee attack for the player.
    *
    * @param enemy    Who ya hitting
    * @param bodyPart Where ya hitting them at
@@ -45,13 +45,13 @@ public class CombatHelpers {
   public void preparePlayerForMelee(Entity enemy, String bodyPart, boolean isFocused) {
     AttributesComponent attributes = ComponentMappers.attributes.get(WorldManager.player);
 
-    if (attributes.energy >= MeleeComponent.COST) {
-      WorldManager.player.add(new MeleeComponent(enemy, bodyPart, isFocused));
+    if (attributes.energy >= Action.MELEE_COST) {
+      ComponentMappers.actions.get(WorldManager.player).melee(enemy, bodyPart, isFocused);
     }
   }
 
   /**
-   * Add RangeComponent to player for throwing.
+   * Line up a throw for the player.
    *
    * @param position Where ya throwing
    * @param bodyPart Where you trying to hit em
@@ -59,15 +59,17 @@ public class CombatHelpers {
   public void preparePlayerForThrowing(Vector2 position, String bodyPart, boolean isFocused) {
     AttributesComponent attributes = ComponentMappers.attributes.get(WorldManager.player);
 
-    if (attributes.energy >= RangeComponent.COST) {
+    if (attributes.energy >= Action.RANGE_COST && position != null) {
       Entity item = WorldManager.itemHelpers.getThrowing(WorldManager.player);
 
-      WorldManager.player.add(new RangeComponent(position, item, "throwing", bodyPart, isFocused));
+      ComponentMappers.actions.get(WorldManager.player).range(
+          position, item, "throwing", bodyPart, isFocused
+      );
     }
   }
 
   /**
-   * Add RangeComponent to player for range weapons.
+   * Line up a shot for the player with their range weapon.
    *
    * @param position Where ya shooting
    * @param bodyPart Where you trying to hit em
@@ -75,7 +77,7 @@ public class CombatHelpers {
   public void preparePlayerForRanged(Vector2 position, String bodyPart, boolean isFocused) {
     AttributesComponent attributes = ComponentMappers.attributes.get(WorldManager.player);
 
-    if (attributes.energy >= RangeComponent.COST) {
+    if (attributes.energy >= Action.RANGE_COST && position != null) {
       Entity primaryWeapon = WorldManager.itemHelpers.getRightHand(WorldManager.player);
       WeaponComponent weapon = ComponentMappers.weapon.get(primaryWeapon);
 
@@ -85,8 +87,8 @@ public class CombatHelpers {
 
       ItemComponent itemDetails = ComponentMappers.item.get(item);
 
-      WorldManager.player.add(
-          new RangeComponent(position, item, itemDetails.skill, bodyPart, isFocused)
+      ComponentMappers.actions.get(WorldManager.player).range(
+          position, item, itemDetails.skill, bodyPart, isFocused
       );
     }
   }
@@ -112,6 +114,11 @@ public class CombatHelpers {
 
     int hit = rollHit(starter, target, skillLevel, bodyPart);
 
+    PositionComponent starterPosition = ComponentMappers.position.get(starter);
+    WorldManager.world.getCurrentMap().sound.makeNoise(
+        starter, (int) starterPosition.pos.x, (int) starterPosition.pos.y, MapSound.COMBAT
+    );
+
     if (hit > 0) {
       if (ComponentMappers.player.has(starter)) {
         PlayerComponent playerDetails = ComponentMappers.player.get(starter);
@@ -295,7 +302,7 @@ public class CombatHelpers {
     AttributesComponent targetAttributes = ComponentMappers.attributes.get(target);
 
     if (ComponentMappers.player.has(target)
-        && targetAttributes.divineFavor <= 0
+        && targetAttributes.getDivineFavor() <= 0
         && god.wrath.contains("Animals do more damage")) {
       if (ComponentMappers.attributes.get(starter).type == AttributesComponent.Type.ANIMAL) {
         totalDamage += MathUtils.random(1, 8);
@@ -390,11 +397,13 @@ public class CombatHelpers {
       }
 
       if (addEffect) {
-        if (bodyPart.contains("leg") && !ComponentMappers.crippled.has(target)) {
-          target.add(new CrippledComponent(4));
+        if (bodyPart.contains("leg")
+            && !WorldManager.statusHelpers.has(target, Status.CRIPPLED)) {
+          WorldManager.statusHelpers.add(target, Status.CRIPPLED, 0, 4);
           WorldManager.log.add("effects.crippled.started", getName(starter), getName(target));
-        } else if (bodyPart.contains("body") && !ComponentMappers.bleeding.has(target)) {
-          target.add(new BleedingComponent(5, 5));
+        } else if (bodyPart.contains("body")
+            && !WorldManager.statusHelpers.has(target, Status.BLEEDING)) {
+          WorldManager.statusHelpers.add(target, Status.BLEEDING, 5, 5);
           WorldManager.log.add("effects.bleeding.started", getName(starter), getName(target));
         }
       }
@@ -514,7 +523,7 @@ public class CombatHelpers {
 
           if (ComponentMappers.god.get(WorldManager.god).hates.contains("Unworthy prey")
               && ComponentMappers.enemy.get(target).attacksToKill <= 10) {
-            ComponentMappers.attributes.get(starter).divineFavor -= MathUtils.random(1, 10);
+            ComponentMappers.attributes.get(starter).changeDivineFavor(-MathUtils.random(1, 10));
 
             WorldManager.log.add(
                 "attributes.divineFavor.decreased",
@@ -1,44 +1,61 @@
 package me.dannytatom.xibalba.helpers;
 
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 import me.dannytatom.xibalba.Main;
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.BrainComponent;
+import me.dannytatom.xibalba.components.EnemyComponent;
 import me.dannytatom.xibalba.components.EquipmentComponent;
 import me.dannytatom.xibalba.components.ItemComponent;
+import me.dannytatom.xibalba.components.PlayerComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
+import me.dannytatom.xibalba.components.StatusesComponent;
 import me.dannytatom.xibalba.components.VisualComponent;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.Map;
-import me.dannytatom.xibalba.world.MapCell;
+import me.dannytatom.xibalba.world.MapSight;
 import me.dannytatom.xibalba.world.ShadowCaster;
 import me.dannytatom.xibalba.world.WorldManager;
 
 public class EntityHelpers {
+  private final Family enemies = Family.all(EnemyComponent.class, PositionComponent.class).get();
   private final ShadowCaster caster;
+  private final ClosestFirst closestFirst;
 
   public EntityHelpers() {
     caster = new ShadowCaster();
+    closestFirst = new ClosestFirst();
   }
 
   /**
-   * Should this entity skip it's turn? </p> They should skip a turn if they're crippled and the
-   * turn turnCounter isn't 0 or if they're stuck.
+   * Should this entity skip it's turn? </p> They should skip a turn if they're crippled or
+   * encumbered and it isn't every third turn since that started, or if they're stuck.
    *
    * @param entity The entity to check
    * @return If they should
    */
   public boolean shouldSkipTurn(Entity entity) {
-    return (ComponentMappers.encumbered.has(entity)
-        && ComponentMappers.encumbered.get(entity).turnCounter != 0)
-        || (ComponentMappers.crippled.has(entity)
-        && ComponentMappers.crippled.get(entity).turnCounter != 0)
-        || (ComponentMappers.stuck.has(entity));
+    StatusesComponent statuses = ComponentMappers.statuses.get(entity);
+
+    return statuses != null
+        && (isOffTurn(statuses, Status.ENCUMBERED) || isOffTurn(statuses, Status.CRIPPLED)
+        || statuses.has(Status.STUCK));
+  }
+
+  // Whether the coming turn isn't one of every third turn counting from when a status started
+  private boolean isOffTurn(StatusesComponent statuses, Status status) {
+    int since = statuses.since[status.ordinal()];
+
+    return statuses.has(status) && since >= 0 && (WorldManager.turnCount + 1 - since) % 3 != 0;
   }
 
   public boolean hasTrait(Entity entity, String trait) {
@@ -58,9 +75,15 @@ public class EntityHelpers {
   public boolean isVisible(Entity entity) {
     PositionComponent entityPosition = ComponentMappers.position.get(entity);
 
-    return entityPosition != null
-        && !WorldManager.mapHelpers.getCell(entityPosition.pos.x, entityPosition.pos.y).hidden
-        && !WorldManager.mapHelpers.getCell(entityPosition.pos.x, entityPosition.pos.y).forgotten;
+    if (entityPosition == null) {
+      return false;
+    }
+
+    Map map = WorldManager.world.getCurrentMap();
+    int cellX = (int) entityPosition.pos.x;
+    int cellY = (int) entityPosition.pos.y;
+
+    return !map.isHidden(cellX, cellY) && !map.isForgotten(cellX, cellY);
   }
 
   /**
@@ -93,36 +116,60 @@ public class EntityHelpers {
   }
 
   /**
-   * Update an entity's senses.
+   * Update what the player can see, and what they remember of the map. Nobody else needs a whole
+   * field of view, they just check lines of sight when they need to, see canSee.
    *
-   * @param entity The entity
+   * @param player The player
    */
-  public void updateSenses(Entity entity) {
-    AttributesComponent attributes = ComponentMappers.attributes.get(entity);
-    PositionComponent position = ComponentMappers.position.get(entity);
+  public void updateSenses(Entity player) {
+    AttributesComponent attributes = ComponentMappers.attributes.get(player);
+    PositionComponent position = ComponentMappers.position.get(player);
+    PlayerComponent playerDetails = ComponentMappers.player.get(player);
 
-    float[][] fovMap = WorldManager.mapHelpers.createFovMap();
+    Map map = WorldManager.world.getCurrentMap();
+    int cellX = (int) position.pos.x;
+    int cellY = (int) position.pos.y;
 
-    attributes.hearingMap = caster.calculateFov(
-        fovMap, (int) position.pos.x, (int) position.pos.y, attributes.hearing
-    );
+    if (!Main.debug.fieldOfViewEnabled) {
+      playerDetails.visionMap.fill(map, 1);
+    } else {
+      caster.calculateFov(map, cellX, cellY, attributes.vision, playerDetails.visionMap);
+    }
 
-    if (!Main.debug.fieldOfViewEnabled && ComponentMappers.player.has(entity)) {
-      Map map = WorldManager.world.getCurrentMap();
-      float[][] visionMap = new float[map.width][map.height];
+    playerDetails.sensedX = cellX;
+    playerDetails.sensedY = cellY;
 
-      for (int x = 0; x < map.width; x++) {
-        for (int y = 0; y < map.height; y++) {
-          visionMap[x][y] = 1;
-        }
-      }
+    map.sense(playerDetails.visionMap);
+    updateSensedEnemies(player);
+  }
 
-      attributes.visionMap = visionMap;
-    } else {
-      attributes.visionMap = caster.calculateFov(
-          fovMap, (int) position.pos.x, (int) position.pos.y, attributes.vision
-      );
+  /**
+   * Work out which enemies the player can see or hear from what they sense right now. Enemies
+   * move around even when the player doesn't, so this happens every turn, not just when the
+   * player's senses get updated.
+   *
+   * @param player The player
+   */
+  public void updateSensedEnemies(Entity player) {
+    PlayerComponent playerDetails = ComponentMappers.player.get(player);
+    PositionComponent position = ComponentMappers.position.get(player);
+
+    playerDetails.enemiesSeen.clear();
+    playerDetails.enemiesHeard.clear();
+
+    for (Entity enemy : WorldManager.engine.getEntitiesFor(enemies)) {
+      if (canSee(player, enemy)) {
+        playerDetails.enemiesSeen.add(enemy);
+      } else if (canHear(player, enemy)) {
+        playerDetails.enemiesHeard.add(enemy);
+      }
     }
+
+    closestFirst.cellX = (int) position.pos.x;
+    closestFirst.cellY = (int) position.pos.y;
+
+    playerDetails.enemiesSeen.sort(closestFirst);
+    playerDetails.enemiesHeard.sort(closestFirst);
   }
 
   /**
@@ -137,54 +184,56 @@ public class EntityHelpers {
       return false;
     }
 
-    AttributesComponent attributes = ComponentMappers.attributes.get(looker);
     PositionComponent targetPosition = ComponentMappers.position.get(target);
 
     int cellX = (int) targetPosition.pos.x;
     int cellY = (int) targetPosition.pos.y;
 
-    return attributes.visionMap[cellX][cellY] > 0;
+    if (ComponentMappers.player.has(looker)) {
+      return WorldManager.world.getCurrentMap().isSeen(cellX, cellY);
+    }
+
+    return hasLineOfSight(looker, cellX, cellY, ComponentMappers.attributes.get(looker).vision);
   }
 
   /**
-   * Check if an entity can hear another entity.
+   * Check if an entity can hear another entity, which they can if they heard them make some noise
+   * this turn or last turn (see MapSound).
    *
    * @param listener Who listening
    * @param target   Who they listening for
    * @return Yes/no
    */
   public boolean canHear(Entity listener, Entity target) {
+    if (target == null) {
+      return false;
+    }
+
     AttributesComponent attributes = ComponentMappers.attributes.get(listener);
-    PositionComponent targetPosition = ComponentMappers.position.get(target);
 
-    return attributes.hearingMap[(int) targetPosition.pos.x][(int) targetPosition.pos.y] > 0;
+    return attributes.heard.get(target, -1) >= WorldManager.turnCount - 1;
   }
 
   public boolean canSense(Entity entity, Entity target) {
     return canSee(entity, target) || canHear(entity, target);
   }
 
+  private boolean hasLineOfSight(Entity entity, int cellX, int cellY, int radius) {
+    PositionComponent position = ComponentMappers.position.get(entity);
+
+    return WorldManager.world.getCurrentMap().sight.canSee(
+        (int) position.pos.x, (int) position.pos.y, cellX, cellY, radius
+    );
+  }
+
   /**
    * Are there any enemies in sight.
    *
-   * @param entity Who's looking
+   * @param player Who's looking
    * @return Yes/no
    */
-  public boolean enemyInSight(Entity entity) {
-    AttributesComponent attributes = ComponentMappers.attributes.get(entity);
-    float[][] vision = attributes.visionMap;
-
-    for (int x = 0; x < vision.length; x++) {
-      for (int y = 0; y < vision[x].length; y++) {
-        Entity enemy = WorldManager.mapHelpers.getEnemyAt(x, y);
-
-        if (enemy != null && canSee(entity, enemy)) {
-          return true;
-        }
-      }
-    }
-
-    return false;
+  public boolean enemyInSight(Entity player) {
+    return ComponentMappers.player.get(player).enemiesSeen.size > 0;
   }
 
   public boolean isAquatic(Entity entity) {
@@ -246,6 +295,9 @@ public class EntityHelpers {
     } else {
       ComponentMappers.position.get(entity).pos.set(cellX, cellY);
     }
+
+    WorldManager.world.getCurrentMap().spatialIndex.put(entity, (int) cellX, (int) cellY);
+    WorldManager.enteredCell.dispatch(entity);
   }
 
   /**
@@ -260,10 +312,10 @@ public class EntityHelpers {
     VisualComponent visual = ComponentMappers.visual.get(entity);
     visual.sprite.setPosition(cellX * Main.SPRITE_WIDTH, cellY * Main.SPRITE_HEIGHT);
 
-    MapCell cell = WorldManager.mapHelpers.getCell(cellX, cellY);
+    Map map = WorldManager.world.getCurrentMap();
 
-    if (cell.isWater()) {
-      Color tinted = visual.color.cpy().lerp(cell.sprite.getColor(), .5f);
+    if (map.isWater((int) cellX, (int) cellY)) {
+      Color tinted = visual.color.cpy().lerp(map.getColor((int) cellX, (int) cellY), .5f);
 
       if (visual.sprite.getColor() != tinted) {
         visual.sprite.setColor(tinted);
@@ -313,6 +365,8 @@ public class EntityHelpers {
     if (ComponentMappers.player.has(entity)) {
       ComponentMappers.player.get(entity).totalDamageReceived += amount;
     }
+
+    WorldManager.damaged.dispatch(entity);
   }
 
   /**
@@ -327,4 +381,28 @@ public class EntityHelpers {
     PositionComponent position = ComponentMappers.position.get(entity);
     WorldManager.mapHelpers.makeFloorVomit(position.pos);
   }
+
+  // Sorts entities by how far they are from a cell, then by where they are, so entities the same
+  // distance away always come out in the same order
+  private static class ClosestFirst implements Comparator<Entity> {
+    int cellX;
+    int cellY;
+
+    @Override
+    public int compare(Entity e1, Entity e2) {
+      Vector2 p1 = ComponentMappers.position.get(e1).pos;
+      Vector2 p2 = ComponentMappers.position.get(e2).pos;
+
+      int compared = Integer.compare(
+          MapSight.distanceSquared(cellX, cellY, (int) p1.x, (int) p1.y),
+          MapSight.distanceSquared(cellX, cellY, (int) p2.x, (int) p2.y)
+      );
+
+      if (compared == 0) {
+        compared = Float.compare(p1.x, p2.x);
+      }
+
+      return compared == 0 ? Float.compare(p1.y, p2.y) : compared;
+    }
+  }
 }
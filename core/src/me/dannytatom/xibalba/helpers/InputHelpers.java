@@ -1,20 +1,15 @@
 package me.dannytatom.xibalba.helpers;
 
-import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.Vector2;
 
-import java.util.ArrayList;
-
 import me.dannytatom.xibalba.components.PlayerComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
 public class InputHelpers {
-  private ArrayList<Entity> enemiesAround;
-
   public InputHelpers() {
-    enemiesAround = new ArrayList<>();
+
   }
 
   /**
@@ -24,8 +19,6 @@ public class InputHelpers {
     WorldManager.state = WorldManager.State.TARGETING;
     WorldManager.targetState = targetState;
 
-    enemiesAround = WorldManager.mapHelpers.getEnemiesInPlayerVision();
-
     PlayerComponent playerDetails = ComponentMappers.player.get(WorldManager.player);
     PositionComponent playerPosition = ComponentMappers.position.get(WorldManager.player);
 
@@ -33,12 +26,13 @@ public class InputHelpers {
       PositionComponent lastHitEntityPosition
           = ComponentMappers.position.get(playerDetails.lastHitEntity);
       handleTargeting(lastHitEntityPosition.pos.cpy().sub(playerPosition.pos));
-    } else if (enemiesAround.size() > 0) {
-      PositionComponent closestPosition = ComponentMappers.position.get(enemiesAround.get(0));
+    } else if (playerDetails.enemiesSeen.size > 0) {
+      PositionComponent closestPosition
+          = ComponentMappers.position.get(playerDetails.enemiesSeen.first());
       handleTargeting(closestPosition.pos.cpy().sub(playerPosition.pos));
     } else {
       playerDetails.target = null;
-      playerDetails.path = null;
+      playerDetails.path.clear();
     }
   }
 
@@ -17,9 +17,8 @@ import me.dannytatom.xibalba.components.ItemComponent;
 import me.dannytatom.xibalba.components.LimbComponent;
 import me.dannytatom.xibalba.components.PlayerComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.components.items.AmmunitionComponent;
-import me.dannytatom.xibalba.components.statuses.EncumberedComponent;
-import me.dannytatom.xibalba.components.statuses.SickComponent;
 import me.dannytatom.xibalba.effects.Effect;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
@@ -246,6 +245,7 @@ public class ItemHelpers {
 
     if (inventory != null) {
       item.remove(PositionComponent.class);
+      WorldManager.world.getCurrentMap().spatialIndex.remove(item);
       inventory.items.add(item);
 
       EquipmentComponent equipment = ComponentMappers.equipment.get(entity);
@@ -287,8 +287,9 @@ public class ItemHelpers {
         }
       }
 
-      if (getTotalWeight(entity) > attributes.strength * 5) {
-        entity.add(new EncumberedComponent());
+      if (getTotalWeight(entity) > attributes.strength * 5
+          && !WorldManager.statusHelpers.has(entity, Status.ENCUMBERED)) {
+        WorldManager.statusHelpers.add(entity, Status.ENCUMBERED);
 
         if (ComponentMappers.player.has(entity)) {
           WorldManager.log.add("effects.encumbered.started");
@@ -310,8 +311,8 @@ public class ItemHelpers {
     AttributesComponent attributes = ComponentMappers.attributes.get(entity);
 
     if (getTotalWeight(entity) <= attributes.strength * 5
-        && ComponentMappers.encumbered.has(entity)) {
-      entity.remove(EncumberedComponent.class);
+        && WorldManager.statusHelpers.has(entity, Status.ENCUMBERED)) {
+      WorldManager.statusHelpers.remove(entity, Status.ENCUMBERED);
 
       if (ComponentMappers.player.has(entity)) {
         WorldManager.log.add("effects.encumbered.stopped");
@@ -332,8 +333,8 @@ public class ItemHelpers {
     AttributesComponent attributes = ComponentMappers.attributes.get(entity);
 
     if (getTotalWeight(entity) <= attributes.strength * 5
-        && ComponentMappers.encumbered.has(entity)) {
-      entity.remove(EncumberedComponent.class);
+        && WorldManager.statusHelpers.has(entity, Status.ENCUMBERED)) {
+      WorldManager.statusHelpers.remove(entity, Status.ENCUMBERED);
 
       if (ComponentMappers.player.has(entity)) {
         WorldManager.log.add("effects.encumbered.stopped");
@@ -433,7 +434,9 @@ public class ItemHelpers {
           }
         } else {
           if (MathUtils.random() > 0.75) {
-            entity.add(new SickComponent(MathUtils.random(5, 20)));
+            WorldManager.statusHelpers.add(
+                entity, Status.SICK, MathUtils.random(5, 10), MathUtils.random(5, 20)
+            );
 
             if (ComponentMappers.player.has(entity)) {
               WorldManager.log.add("effects.sick.started", "You", "are");
@@ -455,8 +458,8 @@ public class ItemHelpers {
 
           int amount = MathUtils.random(1, 5);
 
-          if (attributes.divineFavor <= (attributes.divineFavor + amount)) {
-            attributes.divineFavor += amount;
+          if (attributes.getDivineFavor() <= (attributes.getDivineFavor() + amount)) {
+            attributes.changeDivineFavor(amount);
 
             WorldManager.log.add(
                 "attributes.divineFavor.increased",
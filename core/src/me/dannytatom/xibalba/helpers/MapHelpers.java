@@ -1,31 +1,26 @@
 package me.dannytatom.xibalba.helpers;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.graphics.Colors;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
-import me.dannytatom.xibalba.components.DecorationComponent;
-import me.dannytatom.xibalba.components.EnemyComponent;
-import me.dannytatom.xibalba.components.LightComponent;
 import me.dannytatom.xibalba.components.PlayerComponent;
-import me.dannytatom.xibalba.components.PositionComponent;
-import me.dannytatom.xibalba.components.TrapComponent;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.Map;
 import me.dannytatom.xibalba.world.MapCell;
 import me.dannytatom.xibalba.world.MapFire;
+import me.dannytatom.xibalba.world.MapNavigation;
+import me.dannytatom.xibalba.world.Path;
 import me.dannytatom.xibalba.world.WorldManager;
 
 import org.xguzm.pathfinding.grid.GridCell;
-import org.xguzm.pathfinding.grid.NavigationGrid;
-import org.xguzm.pathfinding.grid.finders.AStarGridFinder;
 
 public class MapHelpers {
   public MapHelpers() {
@@ -40,33 +35,16 @@ public class MapHelpers {
    * @return If it does indeed exist
    */
   private boolean cellExists(int cellX, int cellY) {
-    MapCell[][] map = WorldManager.world.getCurrentMap().getCellMap();
+    Map map = WorldManager.world.getCurrentMap();
 
-    return cellX > 0 && cellX < map.length
-        && cellY > 0 && cellY < map[0].length
-        && getCell(cellX, cellY) != null;
+    return cellX > 0 && cellX < map.width
+        && cellY > 0 && cellY < map.height;
   }
 
   public boolean cellExists(Vector2 position) {
     return cellExists((int) position.x, (int) position.y);
   }
 
-  private MapCell getCell(int mapIndex, int cellX, int cellY) {
-    return WorldManager.world.getMap(mapIndex).getCellMap()[cellX][cellY];
-  }
-
-  public MapCell getCell(int cellX, int cellY) {
-    return getCell(WorldManager.world.currentMapIndex, cellX, cellY);
-  }
-
-  public MapCell getCell(float cellX, float cellY) {
-    return getCell(WorldManager.world.currentMapIndex, (int) cellX, (int) cellY);
-  }
-
-  public MapCell getCell(Vector2 position) {
-    return getCell(position.x, position.y);
-  }
-
   public boolean isBlocked(Vector2 position) {
     return isBlocked(WorldManager.world.currentMapIndex, position);
   }
@@ -78,32 +56,29 @@ public class MapHelpers {
    * @return Is it blocked?
    */
   public boolean isBlocked(int mapIndex, Vector2 position) {
-    MapCell[][] map = WorldManager.world.getMap(mapIndex).getCellMap();
+    Map map = WorldManager.world.getMap(mapIndex);
 
-    boolean blocked = map[(int) position.x][(int) position.y].isWall()
-        || map[(int) position.x][(int) position.y].isNothing();
+    boolean blocked = map.isWall((int) position.x, (int) position.y)
+        || map.isNothing((int) position.x, (int) position.y);
 
     if (!blocked) {
-      ImmutableArray<Entity> entities =
-          WorldManager.engine.getEntitiesFor(
-              Family.all(PositionComponent.class).exclude(LightComponent.class).get()
-          );
+      Array<Entity> entities = map.spatialIndex.get(
+          (int) position.x, (int) position.y
+      );
 
       for (Entity entity : entities) {
-        PositionComponent ep = ComponentMappers.position.get(entity);
+        if (ComponentMappers.light.has(entity)) {
+          continue;
+        }
 
-        if (ep != null && ep.pos.epsilonEquals(position, 0.00001f)) {
-          if (ComponentMappers.decoration.has(entity)) {
-            if (ComponentMappers.decoration.get(entity).blocks) {
-              blocked = true;
-              break;
-            }
-          } else if (ComponentMappers.trap.has(entity)) {
-            blocked = false;
-          } else {
+        if (ComponentMappers.decoration.has(entity)) {
+          if (ComponentMappers.decoration.get(entity).blocks) {
             blocked = true;
             break;
           }
+        } else if (!ComponentMappers.trap.has(entity)) {
+          blocked = true;
+          break;
         }
       }
     }
@@ -111,34 +86,6 @@ public class MapHelpers {
     return blocked;
   }
 
-  /**
-   * Create a Field of View map for given map.
-   *
-   * @param mapIndex Which map to use
-   * @return FoV map
-   */
-  public float[][] createFovMapFor(int mapIndex) {
-    Map map = WorldManager.world.getMap(mapIndex);
-    float[][] resistanceMap = new float[map.width][map.height];
-
-    for (int x = 0; x < map.width; x++) {
-      for (int y = 0; y < map.height; y++) {
-        resistanceMap[x][y] = (getCell(x, y).isWall() || getCell(x, y).isNothing()) ? 1 : 0;
-      }
-    }
-
-    return resistanceMap;
-  }
-
-  /**
-   * Get starting light world. 1 is blocked, 0 is not.
-   *
-   * @return Resistance world
-   */
-  public float[][] createFovMap() {
-    return createFovMapFor(WorldManager.world.currentMapIndex);
-  }
-
   /**
    * Create path for targeting (used for throwing weapons).
    *
@@ -149,21 +96,6 @@ public class MapHelpers {
     Map map = WorldManager.world.getCurrentMap();
 
     Vector2 oldTarget;
-    GridCell[][] cells = new GridCell[map.width][map.height];
-
-    for (int x = 0; x < map.width; x++) {
-      for (int y = 0; y < map.height; y++) {
-        boolean canTarget = cellExists(new Vector2(x, y))
-            && !getCell(x, y).isWall()
-            && !getCell(x, y).isNothing()
-            && !getCell(x, y).hidden;
-
-        cells[x][y] = new GridCell(x, y, canTarget);
-      }
-    }
-
-    NavigationGrid<GridCell> grid = new NavigationGrid<>(cells, false);
-    AStarGridFinder<GridCell> finder = new AStarGridFinder<>(GridCell.class);
 
     PlayerComponent playerDetails = ComponentMappers.player.get(WorldManager.player);
 
@@ -175,24 +107,28 @@ public class MapHelpers {
       playerDetails.target = playerDetails.target.add(end);
     }
 
-    playerDetails.path = finder.findPath(
+    List<GridCell> path = map.navigation.findPath(
         (int) start.x, (int) start.y,
-        (int) playerDetails.target.x, (int) playerDetails.target.y, grid
+        (int) playerDetails.target.x, (int) playerDetails.target.y,
+        MapNavigation.Mode.TARGETING
     );
 
     AttributesComponent playerAttributes = ComponentMappers.attributes.get(WorldManager.player);
     int maxDistance = (playerAttributes.strength <= 4 ? 4 : playerAttributes.strength);
 
-    if (playerDetails.path == null || playerDetails.path.size() > maxDistance) {
+    if (path == null || path.size() > maxDistance) {
       playerDetails.target = oldTarget;
 
       if (playerDetails.target != null) {
-        playerDetails.path = finder.findPath(
+        path = map.navigation.findPath(
             (int) start.x, (int) start.y,
-            (int) playerDetails.target.x, (int) playerDetails.target.y, grid
+            (int) playerDetails.target.x, (int) playerDetails.target.y,
+            MapNavigation.Mode.TARGETING
         );
       }
     }
+
+    copyPath(path, playerDetails.path);
   }
 
   /**
@@ -205,26 +141,8 @@ public class MapHelpers {
     Map map = WorldManager.world.getCurrentMap();
 
     Vector2 oldTarget;
-    GridCell[][] cells = new GridCell[map.width][map.height];
-
-    for (int x = 0; x < map.width; x++) {
-      for (int y = 0; y < map.height; y++) {
-        boolean canTarget;
-
-        if (careAboutWalls) {
-          canTarget = cellExists(new Vector2(x, y))
-              && !getCell(x, y).hidden
-              && !getCell(x, y).isWall();
-        } else {
-          canTarget = cellExists(new Vector2(x, y)) && !getCell(x, y).hidden;
-        }
-
-        cells[x][y] = new GridCell(x, y, canTarget);
-      }
-    }
-
-    NavigationGrid<GridCell> grid = new NavigationGrid<>(cells, false);
-    AStarGridFinder<GridCell> finder = new AStarGridFinder<>(GridCell.class);
+    MapNavigation.Mode mode = careAboutWalls
+        ? MapNavigation.Mode.LOOKING_AROUND_WALLS : MapNavigation.Mode.LOOKING;
 
     PlayerComponent playerDetails = ComponentMappers.player.get(WorldManager.player);
 
@@ -236,21 +154,33 @@ public class MapHelpers {
       playerDetails.target = playerDetails.target.add(end);
     }
 
-    playerDetails.path = finder.findPath(
+    List<GridCell> path = map.navigation.findPath(
         (int) start.x, (int) start.y,
-        (int) playerDetails.target.x, (int) playerDetails.target.y, grid
+        (int) playerDetails.target.x, (int) playerDetails.target.y, mode
     );
 
-    if (playerDetails.path == null) {
+    if (path == null) {
       playerDetails.target = oldTarget;
 
       if (playerDetails.target != null) {
-        playerDetails.path = finder.findPath(
+        path = map.navigation.findPath(
             (int) start.x, (int) start.y,
-            (int) playerDetails.target.x, (int) playerDetails.target.y, grid
+            (int) playerDetails.target.x, (int) playerDetails.target.y, mode
         );
       }
     }
+
+    copyPath(path, playerDetails.path);
+  }
+
+  private void copyPath(List<GridCell> cells, Path path) {
+    path.clear();
+
+    if (cells != null) {
+      for (GridCell cell : cells) {
+        path.add(cell.x, cell.y);
+      }
+    }
   }
 
   public Entity getEntityAt(Vector2 position) {
@@ -265,17 +195,10 @@ public class MapHelpers {
    * @return Either the entity or null if none were found
    */
   public Entity getEntityAt(float cellX, float cellY) {
-    ImmutableArray<Entity> entities =
-        WorldManager.engine.getEntitiesFor(
-            Family.all(PositionComponent.class).exclude(
-                DecorationComponent.class, LightComponent.class
-            ).get()
-        );
+    Array<Entity> entities = entitiesIn((int) cellX, (int) cellY);
 
     for (Entity entity : entities) {
-      PositionComponent entityPosition = ComponentMappers.position.get(entity);
-
-      if (entityPosition.pos.x == cellX && entityPosition.pos.y == cellY) {
+      if (!ComponentMappers.decoration.has(entity) && !ComponentMappers.light.has(entity)) {
         return entity;
       }
     }
@@ -292,15 +215,10 @@ public class MapHelpers {
   public ArrayList<Entity> getEntitiesAt(Vector2 position) {
     ArrayList<Entity> list = new ArrayList<>();
 
-    ImmutableArray<Entity> entities =
-        WorldManager.engine.getEntitiesFor(
-            Family.all(PositionComponent.class).exclude(LightComponent.class).get()
-        );
+    Array<Entity> entities = entitiesIn((int) position.x, (int) position.y);
 
     for (Entity entity : entities) {
-      PositionComponent entityPosition = ComponentMappers.position.get(entity);
-
-      if (entityPosition != null && entityPosition.pos.epsilonEquals(position, 0.00001f)) {
+      if (!ComponentMappers.light.has(entity)) {
         list.add(entity);
       }
     }
@@ -309,71 +227,73 @@ public class MapHelpers {
   }
 
   /**
-   * Get enemy from a location.
+   * Same as checking getEntitiesAt isn't empty, minus building a list.
    *
-   * @param position Where the enemy is
-   * @return The enemy
+   * @param cellX x
+   * @param cellY y
+   * @return Whether there's anything other than a light here
    */
-  public Entity getEnemyAt(Vector2 position) {
-    return getEnemyAt((int) position.x, (int) position.y);
+  public boolean hasEntitiesAt(int cellX, int cellY) {
+    Array<Entity> entities = entitiesIn(cellX, cellY);
+
+    for (Entity entity : entities) {
+      if (!ComponentMappers.light.has(entity)) {
+        return true;
+      }
+    }
+
+    return false;
   }
 
   /**
-   * Similar to getEntityAt, but only return an entity if it contains EnemyComponent.
+   * Whether there's stairs or a decoration in a cell, the things that never move.
    *
    * @param cellX x
    * @param cellY y
-   * @return Either an enemy or null if none were found
+   * @return If there is
    */
-  public Entity getEnemyAt(int cellX, int cellY) {
-    ImmutableArray<Entity> entities =
-        WorldManager.engine.getEntitiesFor(Family.all(EnemyComponent.class).get());
+  public boolean hasStairsOrDecorationAt(int cellX, int cellY) {
+    Array<Entity> entities = entitiesIn(cellX, cellY);
 
-    for (Entity entity : entities) {
-      PositionComponent entityPosition = ComponentMappers.position.get(entity);
+    for (int i = 0; i < entities.size; i++) {
+      Entity entity = entities.get(i);
 
-      if (entityPosition.pos.x == cellX && entityPosition.pos.y == cellY) {
-        return entity;
+      if (ComponentMappers.entrance.has(entity) || ComponentMappers.exit.has(entity)
+          || ComponentMappers.decoration.has(entity)) {
+        return true;
       }
     }
 
-    return null;
+    return false;
   }
 
   /**
-   * Get all entities in vision of the player.
+   * Get enemy from a location.
    *
-   * @return List of entities within player's vision
+   * @param position Where the enemy is
+   * @return The enemy
    */
-  ArrayList<Entity> getEnemiesInPlayerVision() {
-    ArrayList<Entity> enemies = new ArrayList<>();
-
-    PositionComponent position = ComponentMappers.position.get(WorldManager.player);
-    AttributesComponent attributes = ComponentMappers.attributes.get(WorldManager.player);
-
-    int positionX = (int) position.pos.x;
-    int positionY = (int) position.pos.y;
+  public Entity getEnemyAt(Vector2 position) {
+    return getEnemyAt((int) position.x, (int) position.y);
+  }
 
-    for (int x = positionX - attributes.vision; x < positionX + attributes.vision; x++) {
-      for (int y = positionY - attributes.vision; y < positionY + attributes.vision; y++) {
-        Entity enemy = getEnemyAt(x, y);
+  /**
+   * Similar to getEntityAt, but only return an entity if it contains EnemyComponent.
+   *
+   * @param cellX x
+   * @param cellY y
+   * @return Either an enemy or null if none were found
+   */
+  public Entity getEnemyAt(int cellX, int cellY) {
+    Array<Entity> entities = entitiesIn(cellX, cellY);
 
-        if (enemy != null) {
-          enemies.add(enemy);
-        }
+    for (Entity entity : entities) {
+      if (ComponentMappers.enemy.has(entity)) {
+        return entity;
       }
     }
 
-    enemies.sort((enemy1, enemy2) -> {
-      PositionComponent enemy1Position = ComponentMappers.position.get(enemy1);
-      PositionComponent enemy2Position = ComponentMappers.position.get(enemy2);
-
-      return enemy1Position.pos.x > enemy2Position.pos.x
-          && enemy1Position.pos.y > enemy2Position.pos.y
-          ? -1 : 1;
-    });
-
-    return enemies;
+    return null;
   }
 
   /**
@@ -383,15 +303,10 @@ public class MapHelpers {
    * @return The trap if one is found, null if not
    */
   public Entity getTrapAt(Vector2 position) {
-    ImmutableArray<Entity> entities =
-        WorldManager.engine.getEntitiesFor(
-            Family.all(TrapComponent.class).get()
-        );
+    Array<Entity> entities = entitiesIn((int) position.x, (int) position.y);
 
     for (Entity entity : entities) {
-      PositionComponent entityPosition = ComponentMappers.position.get(entity);
-
-      if (entityPosition.pos.epsilonEquals(position, 0.00001f)) {
+      if (ComponentMappers.trap.has(entity)) {
         return entity;
       }
     }
@@ -399,6 +314,10 @@ public class MapHelpers {
     return null;
   }
 
+  private Array<Entity> entitiesIn(int cellX, int cellY) {
+    return WorldManager.world.getCurrentMap().spatialIndex.get(cellX, cellY);
+  }
+
   /**
    * Get a random space within 1 cel radius of the entity.
    *
@@ -431,8 +350,6 @@ public class MapHelpers {
    */
   public Vector2 getRandomOpenPositionOnLand(int index) {
     Map map = WorldManager.world.getMap(index);
-    MapCell[][] cellMap = map.getCellMap();
-
     int cellX = 0;
     int cellY = 0;
 
@@ -442,7 +359,7 @@ public class MapHelpers {
       cellX = MathUtils.random(0, map.width - 1);
       cellY = MathUtils.random(0, map.height - 1);
 
-      if (cellMap[cellX][cellY].isFloor()) {
+      if (map.isFloor(cellX, cellY)) {
         searching = false;
       }
     }
@@ -467,8 +384,6 @@ public class MapHelpers {
    */
   public Vector2 getRandomOpenPositionInWater(int index) {
     Map map = WorldManager.world.getMap(index);
-    MapCell[][] cellMap = map.getCellMap();
-
     int cellX = 0;
     int cellY = 0;
 
@@ -478,7 +393,7 @@ public class MapHelpers {
       cellX = MathUtils.random(0, map.width - 1);
       cellY = MathUtils.random(0, map.height - 1);
 
-      if (cellMap[cellX][cellY].isDeepWater()) {
+      if (map.isDeepWater(cellX, cellY)) {
         searching = false;
       }
     }
@@ -538,14 +453,16 @@ public class MapHelpers {
    * @param position Cell to make wet
    */
   public void makeFloorWet(Vector2 position) {
-    MapCell cell = getCell(position.x, position.y);
+    Map map = WorldManager.world.getCurrentMap();
+    int cellX = (int) position.x;
+    int cellY = (int) position.y;
 
-    if (Objects.equals(cell.description, "bridge")) {
+    if (Objects.equals(map.getDescription(cellX, cellY), "bridge")) {
       return;
     }
 
-    cell.covered = MapCell.Covered.WATER;
-    cell.sprite.setColor(Colors.get(WorldManager.world.getCurrentMap().type + "FloorWet"));
+    map.setCovered(cellX, cellY, MapCell.Covered.WATER);
+    map.setColor(cellX, cellY, Colors.get(map.type + "FloorWet"));
   }
 
   /**
@@ -554,9 +471,9 @@ public class MapHelpers {
    * @param position Position of map cell
    */
   public void makeFloorBloody(Vector2 position) {
-    MapCell cell = getCell(position.x, position.y);
-    cell.covered = MapCell.Covered.BLOOD;
-    cell.sprite.setColor(Colors.get("RED"));
+    Map map = WorldManager.world.getCurrentMap();
+    map.setCovered((int) position.x, (int) position.y, MapCell.Covered.BLOOD);
+    map.setColor((int) position.x, (int) position.y, Colors.get("RED"));
   }
 
   /**
@@ -565,8 +482,8 @@ public class MapHelpers {
    * @param position Position of map cell
    */
   public void makeFloorVomit(Vector2 position) {
-    MapCell cell = getCell(position.x, position.y);
-    cell.covered = MapCell.Covered.VOMIT;
-    cell.sprite.setColor(Colors.get("YELLOW"));
+    Map map = WorldManager.world.getCurrentMap();
+    map.setCovered((int) position.x, (int) position.y, MapCell.Covered.VOMIT);
+    map.setColor((int) position.x, (int) position.y, Colors.get("YELLOW"));
   }
 }
@@ -0,0 +1,98 @@
+package me.dannytatom.xibalba.helpers;
+
+import com.badlogic.ashley.core.Entity;
+
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
+import me.dannytatom.xibalba.systems.UsesTimersSystem;
+import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.world.WorldManager;
+
+public class StatusHelpers {
+  private final UsesTimersSystem[] systems;
+
+  public StatusHelpers() {
+    systems = new UsesTimersSystem[Status.COUNT];
+  }
+
+  /**
+   * Set which system handles a status, it gets told whenever someone gets it.
+   *
+   * @param status The status
+   * @param system The system processing it
+   */
+  public void handle(Status status, UsesTimersSystem system) {
+    systems[status.ordinal()] = system;
+  }
+
+  /**
+   * Whether or not an entity has a status.
+   *
+   * @param entity Who to check
+   * @param status The status
+   * @return Yes/no
+   */
+  public boolean has(Entity entity, Status status) {
+    StatusesComponent statuses = ComponentMappers.statuses.get(entity);
+
+    return statuses != null && statuses.has(status);
+  }
+
+  /**
+   * Give an entity a status that doesn't do damage or wear off by itself.
+   *
+   * @param entity Who gets it
+   * @param status The status
+   */
+  public void add(Entity entity, Status status) {
+    add(entity, status, 0, 0);
+  }
+
+  /**
+   * Give an entity a status. If they already have it, it starts over.
+   *
+   * @param entity Who gets it
+   * @param status The status
+   * @param damage How much damage it does each turn
+   * @param life   How long it lasts
+   */
+  public void add(Entity entity, Status status, int damage, int life) {
+    StatusesComponent statuses = ComponentMappers.statuses.get(entity);
+
+    if (statuses == null) {
+      return;
+    }
+
+    int index = status.ordinal();
+
+    statuses.flags |= status.bit;
+    statuses.damage[index] = damage;
+    statuses.life[index] = life;
+    statuses.counter[index] = 0;
+    statuses.since[index] = -1;
+
+    if (systems[index] != null) {
+      systems[index].schedule(entity, WorldManager.turnCount);
+    }
+  }
+
+  /**
+   * Take a status away from an entity.
+   *
+   * @param entity Who loses it
+   * @param status The status
+   */
+  public void remove(Entity entity, Status status) {
+    StatusesComponent statuses = ComponentMappers.statuses.get(entity);
+
+    if (statuses == null || !statuses.has(status)) {
+      return;
+    }
+
+    statuses.flags &= ~status.bit;
+
+    if (systems[status.ordinal()] != null) {
+      systems[status.ordinal()].cancel(entity);
+    }
+  }
+}
@@ -24,6 +24,7 @@ import me.dannytatom.xibalba.components.BrainComponent;
 import me.dannytatom.xibalba.components.GodComponent;
 import me.dannytatom.xibalba.components.PlayerComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.components.actions.ExploreComponent;
 import me.dannytatom.xibalba.screens.AbilitiesScreen;
 import me.dannytatom.xibalba.screens.CharacterScreen;
@@ -33,7 +34,6 @@ import me.dannytatom.xibalba.screens.MainMenuScreen;
 import me.dannytatom.xibalba.screens.PauseScreen;
 import me.dannytatom.xibalba.ui.ActionButton;
 import me.dannytatom.xibalba.utils.ComponentMappers;
-import me.dannytatom.xibalba.world.MapCell;
 import me.dannytatom.xibalba.world.WorldManager;
 
 import org.apache.commons.lang3.text.WordUtils;
@@ -357,8 +357,9 @@ public class HudRenderer {
         return;
       }
 
-      MapCell cell = WorldManager.mapHelpers.getCell(playerPosition.pos.x, playerPosition.pos.y);
-      String cellDescription = "You stand on " + cell.description;
+      String cellDescription = "You stand on " + WorldManager.world.getCurrentMap().getDescription(
+          (int) playerPosition.pos.x, (int) playerPosition.pos.y
+      );
 
       Label placeholder = (Label) areaDetails.getChildren().get(0);
       placeholder.setText(null);
@@ -369,14 +370,15 @@ public class HudRenderer {
         return;
       }
 
-      MapCell cell
-          = WorldManager.mapHelpers.getCell(playerDetails.target.x, playerDetails.target.y);
+      int targetX = (int) playerDetails.target.x;
+      int targetY = (int) playerDetails.target.y;
+      String description = WorldManager.world.getCurrentMap().getDescription(targetX, targetY);
       String cellDescription;
 
-      if (cell.forgotten) {
-        cellDescription = "You remember seeing " + cell.description;
+      if (WorldManager.world.getCurrentMap().isForgotten(targetX, targetY)) {
+        cellDescription = "You remember seeing " + description;
       } else {
-        cellDescription = "You see " + cell.description;
+        cellDescription = "You see " + description;
       }
 
       Entity entity
@@ -477,20 +479,20 @@ public class HudRenderer {
 
     String divineFavorColor;
 
-    if (attributes.divineFavor <= 0) {
+    if (attributes.getDivineFavor() <= 0) {
       divineFavorColor = "[RED]";
-    } else if (attributes.divineFavor / 100 <= 0.5) {
+    } else if (attributes.getDivineFavor() / 100 <= 0.5) {
       divineFavorColor = "[YELLOW]";
     } else {
       divineFavorColor = "[WHITE]";
     }
 
     String divineFavorText
-        = divineFavorColor + Math.round(attributes.divineFavor) + "[LIGHT_GRAY]/100";
+        = divineFavorColor + Math.round(attributes.getDivineFavor()) + "[LIGHT_GRAY]/100";
     StringBuilder divineFavorBar = new StringBuilder("[LIGHT_GRAY]DF [[");
 
     for (int i = 0; i < MathUtils.floor(100 / 10); i++) {
-      if (attributes.divineFavor < (i * 10)) {
+      if (attributes.getDivineFavor() < (i * 10)) {
         divineFavorBar.append("[DARK_GRAY]x");
       } else {
         divineFavorBar.append("[WHITE]x");
@@ -526,35 +528,35 @@ public class HudRenderer {
   private String createEntityStatus(Entity entity) {
     Array<String> statuses = new Array<>();
 
-    if (ComponentMappers.encumbered.has(player)) {
+    if (WorldManager.statusHelpers.has(player, Status.ENCUMBERED)) {
       statuses.add("[DARK_GRAY]ENCUMBERED[]");
     }
 
-    if (ComponentMappers.crippled.has(entity)) {
+    if (WorldManager.statusHelpers.has(entity, Status.CRIPPLED)) {
       statuses.add("[DARK_GRAY]CRIPPLED[]");
     }
 
-    if (ComponentMappers.bleeding.has(entity)) {
+    if (WorldManager.statusHelpers.has(entity, Status.BLEEDING)) {
       statuses.add("[DARK_GRAY]BLEEDING[]");
     }
 
-    if (ComponentMappers.burning.has(entity)) {
+    if (WorldManager.statusHelpers.has(entity, Status.BURNING)) {
       statuses.add("[DARK_GRAY]BURNING[]");
     }
 
-    if (ComponentMappers.poisoned.has(entity)) {
+    if (WorldManager.statusHelpers.has(entity, Status.POISONED)) {
       statuses.add("[DARK_GRAY]POISONED[]");
     }
 
-    if (ComponentMappers.sick.has(entity)) {
+    if (WorldManager.statusHelpers.has(entity, Status.SICK)) {
       statuses.add("[DARK_GRAY]SICK[]");
     }
 
-    if (ComponentMappers.drowning.has(entity)) {
+    if (WorldManager.statusHelpers.has(entity, Status.DROWNING)) {
       statuses.add("[DARK_GRAY]DROWNING[]");
     }
 
-    if (ComponentMappers.stuck.has(entity)) {
+    if (WorldManager.statusHelpers.has(entity, Status.STUCK)) {
       statuses.add("[DARK_GRAY]STUCK[]");
     }
 
@@ -0,0 +1,164 @@
+package me.dannytatom.xibalba.renderers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Colors;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.nio.ByteBuffer;
+
+import me.dannytatom.xibalba.Main;
+import me.dannytatom.xibalba.utils.LightShader;
+import me.dannytatom.xibalba.world.Map;
+
+/**
+ * Darkness, memory and colored light for a map, kept in a couple of textures with a pixel per
+ * cell and drawn over the whole map in a single pass. Only rows that actually changed get sent
+ * to the GPU.
+ */
+class LightOverlay implements Disposable {
+  final Map map;
+  final Color background;
+  private final Pixmap cells;
+  private final Pixmap colors;
+  private final Texture cellTexture;
+  private final Texture colorTexture;
+
+  // Rows that changed since the last upload
+  private int firstRow;
+  private int lastRow;
+
+  /**
+   * Light overlay for a map.
+   *
+   * @param map The map
+   */
+  LightOverlay(Map map) {
+    this.map = map;
+    this.background = Colors.get(map.type + "Background");
+
+    cells = new Pixmap(map.width, map.height, Pixmap.Format.RGBA8888);
+    colors = new Pixmap(map.width, map.height, Pixmap.Format.RGBA8888);
+
+    cells.setColor(Color.CLEAR);
+    cells.fill();
+    colors.setColor(Color.CLEAR);
+    colors.fill();
+
+    cellTexture = new Texture(cells);
+    colorTexture = new Texture(colors);
+
+    clean();
+  }
+
+  /**
+   * Set how a cell should look.
+   *
+   * @param cellX    x of the cell
+   * @param cellY    y of the cell
+   * @param darkness How much of the shadow color covers it
+   * @param light    How much of the light color covers it
+   * @param color    Light color
+   */
+  void set(int cellX, int cellY, float darkness, float light, Color color) {
+    int index = (cellY * map.width + cellX) * 4;
+    boolean changed = put(cells.getPixels(), index, darkness, light, 0);
+
+    if (light > 0) {
+      changed |= put(colors.getPixels(), index, color.r, color.g, color.b);
+    }
+
+    if (changed) {
+      firstRow = Math.min(firstRow, cellY);
+      lastRow = Math.max(lastRow, cellY);
+    }
+  }
+
+  /**
+   * Upload whatever changed and draw the overlay over the whole map.
+   *
+   * @param batch       Batch to draw with, it has to be drawing already
+   * @param shadowColor What darkness looks like
+   * @param grayness    How much to gray out the lights
+   */
+  void draw(SpriteBatch batch, Color shadowColor, float grayness) {
+    upload();
+
+    batch.setShader(LightShader.shader);
+    batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+    LightShader.shader.setUniformi("u_lights", 1);
+    LightShader.shader.setUniformf("u_shadowColor", shadowColor);
+    LightShader.shader.setUniformf("u_grayness", grayness);
+
+    colorTexture.bind(1);
+    Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+
+    batch.draw(
+        cellTexture, 0, 0, map.width * Main.SPRITE_WIDTH, map.height * Main.SPRITE_HEIGHT,
+        0, 0, 1, 1
+    );
+
+    batch.flush();
+    batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+  }
+
+  @Override
+  public void dispose() {
+    cellTexture.dispose();
+    colorTexture.dispose();
+    cells.dispose();
+    colors.dispose();
+  }
+
+  private void upload() {
+    if (firstRow > lastRow) {
+      return;
+    }
+
+    upload(cellTexture, cells);
+    upload(colorTexture, colors);
+
+    clean();
+  }
+
+  // Rows are contiguous in the pixmap, so the changed rows can go up in one sub image
+  private void upload(Texture texture, Pixmap pixmap) {
+    ByteBuffer pixels = pixmap.getPixels();
+    pixels.position(firstRow * map.width * 4);
+
+    texture.bind();
+    Gdx.gl.glTexSubImage2D(
+        GL20.GL_TEXTURE_2D, 0, 0, firstRow, map.width, lastRow - firstRow + 1,
+        GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixels
+    );
+
+    pixels.position(0);
+  }
+
+  private void clean() {
+    firstRow = map.height;
+    lastRow = -1;
+  }
+
+  private static boolean put(ByteBuffer pixels, int index, float red, float green, float blue) {
+    byte r = (byte) (red * 255);
+    byte g = (byte) (green * 255);
+    byte b = (byte) (blue * 255);
+
+    if (pixels.get(index) == r && pixels.get(index + 1) == g && pixels.get(index + 2) == b) {
+      return false;
+    }
+
+    pixels.put(index, r);
+    pixels.put(index + 1, g);
+    pixels.put(index + 2, b);
+    pixels.put(index + 3, (byte) 255);
+
+    return true;
+  }
+}
@@ -0,0 +1,208 @@
+package me.dannytatom.xibalba.renderers;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+
+import me.dannytatom.xibalba.Main;
+import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.world.Map;
+import me.dannytatom.xibalba.world.MapChunks;
+import me.dannytatom.xibalba.world.WorldManager;
+
+/**
+ * Remembered terrain, stairs and decorations barely ever change, so rather than sending them
+ * through the sprite batch every frame they get built into a sprite cache a chunk at a time, and
+ * chunks only get rebuilt when the map says something in them changed. Entities coming and going
+ * don't change anything here, the world renderer covers the terrain under them instead.
+ *
+ * <p>Animated cells (water) aren't cached, they're drawn by the world renderer like before.
+ */
+class TileCache implements Disposable {
+  final Map map;
+  private final int[] ids;
+  private final TextureRegion padding;
+  private SpriteCache cache;
+  private int slots;
+
+  /**
+   * Tile cache for a map, nothing gets built until it's on screen.
+   *
+   * @param map The map
+   */
+  TileCache(Map map) {
+    this.map = map;
+    this.ids = new int[map.chunks.columns * map.chunks.rows];
+    this.padding = Main.asciiAtlas.findRegion("0000");
+
+    create(MapChunks.SIZE * MapChunks.SIZE + MapChunks.SIZE);
+  }
+
+  /**
+   * Rebuild whatever chunks on screen have changed, then draw them.
+   *
+   * @param projection Camera's combined matrix
+   * @param firstX     First cell on screen
+   * @param firstY     First cell on screen
+   * @param lastX      Last cell on screen
+   * @param lastY      Last cell on screen
+   */
+  void render(Matrix4 projection, int firstX, int firstY, int lastX, int lastY) {
+    int firstChunkX = firstX / MapChunks.SIZE;
+    int firstChunkY = firstY / MapChunks.SIZE;
+    int lastChunkX = lastX / MapChunks.SIZE;
+    int lastChunkY = lastY / MapChunks.SIZE;
+
+    build(firstChunkX, firstChunkY, lastChunkX, lastChunkY);
+
+    Gdx.gl.glEnable(GL20.GL_BLEND);
+    Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+    cache.setProjectionMatrix(projection);
+    cache.begin();
+
+    for (int chunkX = firstChunkX; chunkX <= lastChunkX; chunkX++) {
+      for (int chunkY = firstChunkY; chunkY <= lastChunkY; chunkY++) {
+        cache.draw(ids[chunkX * map.chunks.rows + chunkY]);
+      }
+    }
+
+    cache.end();
+  }
+
+  @Override
+  public void dispose() {
+    cache.dispose();
+  }
+
+  // Every chunk gets the same number of sprites, padded out with empty ones, since caches
+  // can't be redefined with more sprites than they started with
+  private void create(int slots) {
+    if (cache != null) {
+      cache.dispose();
+    }
+
+    this.slots = slots;
+    this.cache = new SpriteCache(ids.length * slots, false);
+
+    Arrays.fill(ids, -1);
+  }
+
+  private void build(int firstChunkX, int firstChunkY, int lastChunkX, int lastChunkY) {
+    for (int chunkX = firstChunkX; chunkX <= lastChunkX; chunkX++) {
+      for (int chunkY = firstChunkY; chunkY <= lastChunkY; chunkY++) {
+        int chunk = chunkX * map.chunks.rows + chunkY;
+
+        if (ids[chunk] != -1 && !map.chunks.isDirty(chunkX, chunkY)) {
+          continue;
+        }
+
+        int count = fill(chunkX, chunkY, false);
+
+        // Didn't fit, so the cache has to grow and everything needs building again
+        if (count > slots) {
+          create(count + MapChunks.SIZE);
+          build(firstChunkX, firstChunkY, lastChunkX, lastChunkY);
+
+          return;
+        }
+
+        if (ids[chunk] == -1) {
+          cache.beginCache();
+        } else {
+          cache.beginCache(ids[chunk]);
+        }
+
+        fill(chunkX, chunkY, true);
+
+        for (int i = count; i < slots; i++) {
+          cache.add(padding, 0, 0, 0, 0);
+        }
+
+        ids[chunk] = cache.endCache();
+        map.chunks.markClean(chunkX, chunkY);
+      }
+    }
+  }
+
+  // Count (and maybe add) the sprites in a chunk. Goes terrain first, then stairs, then
+  // decorations, same order the world renderer used to draw them in.
+  private int fill(int chunkX, int chunkY, boolean add) {
+    int fromX = chunkX * MapChunks.SIZE;
+    int fromY = chunkY * MapChunks.SIZE;
+    int toX = Math.min(fromX + MapChunks.SIZE, map.width);
+    int toY = Math.min(fromY + MapChunks.SIZE, map.height);
+    int count = 0;
+
+    for (int x = fromX; x < toX; x++) {
+      for (int y = fromY; y < toY; y++) {
+        if (map.isHidden(x, y) || map.isAnimated(x, y)) {
+          continue;
+        }
+
+        // Terrain goes under whatever moves about, the world renderer covers it up before
+        // drawing them, so only stairs and decorations (which never move) take its place here
+        if (map.isForgotten(x, y) || !WorldManager.mapHelpers.hasStairsOrDecorationAt(x, y)) {
+          if (add) {
+            addCell(x, y);
+          }
+
+          count += 1;
+        }
+      }
+    }
+
+    for (int pass = 0; pass < 2; pass++) {
+      for (int x = fromX; x < toX; x++) {
+        for (int y = fromY; y < toY; y++) {
+          if (map.isHidden(x, y) || map.isForgotten(x, y)) {
+            continue;
+          }
+
+          Array<Entity> entities = map.spatialIndex.get(x, y);
+
+          for (int i = 0; i < entities.size; i++) {
+            Entity entity = entities.get(i);
+
+            boolean belongs = pass == 0
+                ? ComponentMappers.entrance.has(entity) || ComponentMappers.exit.has(entity)
+                : ComponentMappers.decoration.has(entity);
+
+            if (belongs && ComponentMappers.visual.has(entity)) {
+              if (add) {
+                cache.add(ComponentMappers.visual.get(entity).sprite);
+              }
+
+              count += 1;
+            }
+          }
+        }
+      }
+    }
+
+    return count;
+  }
+
+  private void addCell(int cellX, int cellY) {
+    cache.setColor(map.getColor(cellX, cellY));
+
+    if (map.isFlipped(cellX, cellY)) {
+      cache.add(
+          map.getGlyph(cellX, cellY), (cellX + 1) * Main.SPRITE_WIDTH, cellY * Main.SPRITE_HEIGHT,
+          -Main.SPRITE_WIDTH, Main.SPRITE_HEIGHT
+      );
+    } else {
+      cache.add(
+          map.getGlyph(cellX, cellY), cellX * Main.SPRITE_WIDTH, cellY * Main.SPRITE_HEIGHT,
+          Main.SPRITE_WIDTH, Main.SPRITE_HEIGHT
+      );
+    }
+  }
+}
@@ -10,12 +10,10 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import me.dannytatom.xibalba.Main;
-import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.DecorationComponent;
 import me.dannytatom.xibalba.components.EnemyComponent;
 import me.dannytatom.xibalba.components.EntranceComponent;
@@ -29,25 +27,36 @@ import me.dannytatom.xibalba.components.VisualComponent;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.utils.GrayscaleShader;
 import me.dannytatom.xibalba.world.Map;
-import me.dannytatom.xibalba.world.MapCell;
 import me.dannytatom.xibalba.world.WorldManager;
 
 import org.apache.commons.lang3.ArrayUtils;
-import org.xguzm.pathfinding.grid.GridCell;
 
 public class WorldRenderer {
+  // Extra cells drawn around the edges of the camera, so nothing pops in while it moves
+  private static final int CULL_MARGIN = 2;
+
   private final SpriteBatch batch;
   private final Viewport viewport;
   private final OrthographicCamera worldCamera;
 
   private final PlayerComponent playerDetails;
-  private final AttributesComponent playerAttributes;
   private final PositionComponent playerPosition;
   private final GodComponent god;
 
   // These get reused a ton
   private final Sprite shadow;
+  private final Sprite cover;
   private final Sprite question;
+  private final Color lightColor;
+
+  // Cells the camera can see this frame
+  private int firstX;
+  private int firstY;
+  private int lastX;
+  private int lastY;
+
+  private TileCache tiles;
+  private LightOverlay lights;
 
   /**
    * Setup world renderer.
@@ -62,12 +71,13 @@ public class WorldRenderer {
     viewport = new FitViewport(960, 540, worldCamera);
 
     playerDetails = ComponentMappers.player.get(WorldManager.player);
-    playerAttributes = ComponentMappers.attributes.get(WorldManager.player);
     playerPosition = ComponentMappers.position.get(WorldManager.player);
     god = ComponentMappers.god.get(WorldManager.god);
 
     shadow = Main.asciiAtlas.createSprite("1113");
+    cover = Main.asciiAtlas.createSprite("1113");
     question = Main.asciiAtlas.createSprite("1503");
+    lightColor = new Color();
 
     BitmapFont font = new BitmapFont();
     font.getData().setScale(.25f);
@@ -85,6 +95,9 @@ public class WorldRenderer {
     }
 
     worldCamera.update();
+    cull(WorldManager.world.getCurrentMap());
+
+    WorldManager.world.getCurrentMap().light.setView(firstX, firstY, lastX, lastY);
 
     if (god.hasWrath) {
       GrayscaleShader.shader.begin();
@@ -95,54 +108,96 @@ public class WorldRenderer {
       batch.setShader(null);
     }
 
+    // Wrath hides forgotten cells and keeps blood red, so the tile cache only gets used without it
+    if (!god.hasWrath) {
+      renderTiles();
+    }
+
     batch.setProjectionMatrix(worldCamera.combined);
     batch.begin();
 
     renderCells(wrathFade);
-    renderStairs();
-    renderDecorations();
+
+    if (god.hasWrath) {
+      renderStairs();
+      renderDecorations();
+    }
+
+    if (!god.hasWrath) {
+      renderCovers();
+    }
+
     renderTraps();
     renderItems();
     renderEnemies();
     renderPlayer();
-    renderShadows();
-    renderLights();
+    renderLighting(wrathFade);
     renderHighlights();
 
     batch.end();
   }
 
+  // Work out which cells the camera can see, so the per cell passes only draw those
+  private void cull(Map map) {
+    float halfWidth = worldCamera.viewportWidth * worldCamera.zoom / 2;
+    float halfHeight = worldCamera.viewportHeight * worldCamera.zoom / 2;
+
+    firstX = Math.max(
+        0, (int) ((worldCamera.position.x - halfWidth) / Main.SPRITE_WIDTH) - CULL_MARGIN
+    );
+    firstY = Math.max(
+        0, (int) ((worldCamera.position.y - halfHeight) / Main.SPRITE_HEIGHT) - CULL_MARGIN
+    );
+    lastX = Math.min(
+        map.width - 1,
+        (int) ((worldCamera.position.x + halfWidth) / Main.SPRITE_WIDTH) + CULL_MARGIN
+    );
+    lastY = Math.min(
+        map.height - 1,
+        (int) ((worldCamera.position.y + halfHeight) / Main.SPRITE_HEIGHT) + CULL_MARGIN
+    );
+  }
+
+  private void renderTiles() {
+    Map map = WorldManager.world.getCurrentMap();
+
+    if (tiles == null || tiles.map != map) {
+      if (tiles != null) {
+        tiles.dispose();
+      }
+
+      tiles = new TileCache(map);
+    }
+
+    tiles.render(worldCamera.combined, firstX, firstY, lastX, lastY);
+  }
+
   private void renderCells(float wrathFade) {
     Map map = WorldManager.world.getCurrentMap();
 
-    for (int x = 0; x < map.width; x++) {
-      for (int y = 0; y < map.height; y++) {
-        MapCell cell = map.getCellMap()[x][y];
+    map.animate();
 
-        if (cell.hasBlood() && !cell.onFire) {
-          if (god.hasWrath) {
-            batch.setShader(null);
-          }
+    for (int x = firstX; x <= lastX; x++) {
+      for (int y = firstY; y <= lastY; y++) {
+        // Anything that isn't animated already got drawn from the tile cache
+        if (!god.hasWrath && !map.isAnimated(x, y)) {
+          continue;
         }
 
-        if (playerAttributes.visionMap[x][y] > 0) {
-          cell.hidden = false;
-
-          if (cell.tween != null && !cell.tween.isStarted()) {
-            cell.tween.start(Main.tweenManager);
+        if (map.hasBlood(x, y) && !map.isOnFire(x, y)) {
+          if (god.hasWrath) {
+            batch.setShader(null);
           }
         }
 
-        if (!cell.hidden) {
-          cell.forgotten = playerAttributes.visionMap[x][y] <= 0;
-
-          if (cell.forgotten) {
+        if (!map.isHidden(x, y)) {
+          if (map.isForgotten(x, y)) {
             if (!god.hasWrath) {
-              cell.sprite.draw(batch);
+              renderCell(map, x, y);
             }
           } else {
-            if (WorldManager.mapHelpers.getEntitiesAt(new Vector2(x, y)).size() == 0) {
-              cell.sprite.draw(batch);
+            if (!WorldManager.mapHelpers.hasEntitiesAt(x, y)) {
+              renderCell(map, x, y);
             }
           }
         }
@@ -152,6 +207,24 @@ public class WorldRenderer {
         }
       }
     }
+
+    batch.setColor(Color.WHITE);
+  }
+
+  private void renderCell(Map map, int cellX, int cellY) {
+    batch.setColor(map.getColor(cellX, cellY));
+
+    if (map.isFlipped(cellX, cellY)) {
+      batch.draw(
+          map.getGlyph(cellX, cellY), (cellX + 1) * Main.SPRITE_WIDTH, cellY * Main.SPRITE_HEIGHT,
+          -Main.SPRITE_WIDTH, Main.SPRITE_HEIGHT
+      );
+    } else {
+      batch.draw(
+          map.getGlyph(cellX, cellY), cellX * Main.SPRITE_WIDTH, cellY * Main.SPRITE_HEIGHT,
+          Main.SPRITE_WIDTH, Main.SPRITE_HEIGHT
+      );
+    }
   }
 
   private void renderStairs() {
@@ -182,6 +255,30 @@ public class WorldRenderer {
     }
   }
 
+  // The tile cache has terrain under everything that moves about, so cover it up wherever
+  // something's about to be drawn (like before the cache, when those cells were left empty)
+  private void renderCovers() {
+    cover.setColor(Colors.get(WorldManager.world.getCurrentMap().type + "Background"));
+
+    ImmutableArray<Entity> entities = WorldManager.engine.getEntitiesFor(
+        Family.all(PositionComponent.class, VisualComponent.class)
+            .one(TrapComponent.class, ItemComponent.class, EnemyComponent.class,
+                PlayerComponent.class).get()
+    );
+
+    for (Entity entity : entities) {
+      PositionComponent position = ComponentMappers.position.get(entity);
+      int cellX = (int) position.pos.x;
+      int cellY = (int) position.pos.y;
+
+      if (WorldManager.entityHelpers.isVisible(entity)
+          && !WorldManager.mapHelpers.hasStairsOrDecorationAt(cellX, cellY)) {
+        cover.setPosition(cellX * Main.SPRITE_WIDTH, cellY * Main.SPRITE_HEIGHT);
+        cover.draw(batch);
+      }
+    }
+  }
+
   private void renderTraps() {
     ImmutableArray<Entity> entities =
         WorldManager.engine.getEntitiesFor(Family.all(TrapComponent.class).get());
@@ -225,7 +322,13 @@ public class WorldRenderer {
 
       if (WorldManager.entityHelpers.isVisible(entity)) {
         ComponentMappers.visual.get(entity).sprite.draw(batch);
-      } else if (WorldManager.entityHelpers.canHear(WorldManager.player, entity)) {
+      }
+    }
+
+    for (Entity entity : playerDetails.enemiesHeard) {
+      PositionComponent position = ComponentMappers.position.get(entity);
+
+      if (!WorldManager.entityHelpers.isVisible(entity)) {
         question.setPosition(
             position.pos.x * Main.SPRITE_WIDTH, position.pos.y * Main.SPRITE_HEIGHT
         );
@@ -251,99 +354,99 @@ public class WorldRenderer {
     }
   }
 
-  private void renderShadows() {
+  // Darkness, memory and light all go into the light overlay for the cells on screen, which
+  // then gets drawn over the whole map in one go
+  private void renderLighting(float wrathFade) {
     Map map = WorldManager.world.getCurrentMap();
 
-    for (int x = 0; x < map.width; x++) {
-      for (int y = 0; y < map.height; y++) {
-        MapCell cell = WorldManager.mapHelpers.getCell(x, y);
-
-        if (cell.hidden) {
-          continue;
-        }
-
-        if (god.hasWrath && cell.forgotten) {
-          continue;
-        }
-
-        Entity enemy = WorldManager.mapHelpers.getEnemyAt(x, y);
+    if (lights == null || lights.map != map) {
+      if (lights != null) {
+        lights.dispose();
+      }
 
-        boolean canHearEnemy = WorldManager.entityHelpers.hasTrait(
-            WorldManager.player, "Perceptive"
-        ) && enemy != null && WorldManager.entityHelpers.canHear(WorldManager.player, enemy);
+      lights = new LightOverlay(map);
+    }
 
-        if (canHearEnemy) {
-          continue;
-        }
+    boolean hasLights = map.light.hasLights();
+    boolean perceptive = WorldManager.entityHelpers.hasTrait(WorldManager.player, "Perceptive");
 
-        float alpha = playerAttributes.visionMap[x][y];
+    for (int x = firstX; x <= lastX; x++) {
+      for (int y = firstY; y <= lastY; y++) {
+        float darkness = 0;
+        float light = 0;
 
-        if (map.light.hasLights() && alpha > 0) {
-          if (alpha + map.light.lightMap[x][y] > 1) {
-            alpha = 0.9f;
-          } else {
-            alpha += map.light.lightMap[x][y];
-          }
-        }
+        if (!map.isHidden(x, y) && !(god.hasWrath && map.isForgotten(x, y))) {
+          Entity enemy = perceptive ? WorldManager.mapHelpers.getEnemyAt(x, y) : null;
 
-        alpha = alpha <= .15f ? .15f : alpha;
+          boolean canHearEnemy = enemy != null
+              && WorldManager.entityHelpers.canHear(WorldManager.player, enemy);
 
-        if (god.hasWrath) {
-          shadow.setColor(Color.BLACK);
-        } else {
-          shadow.setColor(Colors.get(WorldManager.world.getCurrentMap().type + "Background"));
-        }
+          float lit = hasLights ? map.light.getLight(x, y) : 0;
 
-        shadow.setAlpha(-alpha);
-        shadow.setPosition(x * Main.SPRITE_WIDTH, y * Main.SPRITE_HEIGHT);
+          if (!canHearEnemy) {
+            float alpha = playerDetails.visionMap.get(x, y);
 
-        shadow.draw(batch);
-      }
-    }
-  }
-
-  private void renderLights() {
-    Map map = WorldManager.world.getCurrentMap();
-
-    if (map.light.hasLights()) {
-      for (int x = 0; x < map.width; x++) {
-        for (int y = 0; y < map.height; y++) {
-          MapCell cell = WorldManager.mapHelpers.getCell(x, y);
+            if (lit > 0 && alpha > 0) {
+              if (alpha + lit > 1) {
+                alpha = 0.9f;
+              } else {
+                alpha += lit;
+              }
+            }
 
-          if (cell.hidden || cell.forgotten) {
-            continue;
+            darkness = 1 - (alpha <= .15f ? .15f : alpha);
           }
 
-          float alpha = map.light.lightMap[x][y];
+          if (lit > 0 && !map.isForgotten(x, y)) {
+            light = lit + lit > 1 ? 0.9f : lit;
 
-          if (alpha + map.light.lightMap[x][y] > 1) {
-            alpha = 0.9f;
+            light /= 10;
           }
+        }
 
-          shadow.setColor(map.light.colorMap[x][y]);
-          shadow.setAlpha(alpha / 10);
-          shadow.setPosition(x * Main.SPRITE_WIDTH, y * Main.SPRITE_HEIGHT);
-
-          shadow.draw(batch);
+        if (light > 0) {
+          map.light.getColor(x, y, lightColor);
         }
+
+        lights.set(x, y, darkness, light, lightColor);
       }
     }
+
+    lights.draw(
+        batch, god.hasWrath ? Color.BLACK : lights.background, god.hasWrath ? wrathFade : 0
+    );
+
+    batch.setShader(god.hasWrath ? GrayscaleShader.shader : null);
   }
 
   private void renderHighlights() {
-    if (playerDetails.path != null && playerDetails.target != null) {
+    if (playerDetails.target != null) {
       for (int i = 0; i < playerDetails.path.size(); i++) {
-        GridCell cell = playerDetails.path.get(i);
-
         shadow.setColor(Color.WHITE);
         shadow.setAlpha(.15f);
-        shadow.setPosition(cell.x * Main.SPRITE_WIDTH, cell.y * Main.SPRITE_HEIGHT);
+        shadow.setPosition(
+            playerDetails.path.getX(i) * Main.SPRITE_WIDTH,
+            playerDetails.path.getY(i) * Main.SPRITE_HEIGHT
+        );
 
         shadow.draw(batch);
       }
     }
   }
 
+  /**
+   * Get rid of the tile cache and light overlay.
+   */
+  public void dispose() {
+    if (tiles != null) {
+      tiles.dispose();
+    }
+
+    if (lights != null) {
+      lights.dispose();
+    }
+  }
+
   /**
    * Self-explanatory.
    *
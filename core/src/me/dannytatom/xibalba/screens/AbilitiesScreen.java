@@ -90,7 +90,7 @@ public class AbilitiesScreen implements Screen {
     for (Ability ability : abilities.values()) {
       if (ability.type == Ability.Type.PASSIVE) {
         abilitiesGroup.addActor(new Label(ability.name + " [LIGHT_GRAY]Passive", Main.skin));
-      } else if (ability.counter < ability.recharge) {
+      } else if (!ability.isReady()) {
         abilitiesGroup.addActor(new Label(ability.name, Main.skin));
       } else {
         // If you look at the docs for Input.Keys, number keys are offset by 7
@@ -124,9 +124,9 @@ public class AbilitiesScreen implements Screen {
           "[DARK_GRAY]" + WordUtils.wrap(ability.description, 140), Main.skin
       ));
 
-      if (ability.counter < ability.recharge) {
+      if (!ability.isReady()) {
         abilitiesGroup.addActor(new Label(
-            "[DARK_GRAY]" + (ability.recharge - ability.counter) + " turns left", Main.skin
+            "[DARK_GRAY]" + ability.turnsLeft() + " turns left", Main.skin
         ));
       }
 
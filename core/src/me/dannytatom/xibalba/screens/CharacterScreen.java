@@ -29,7 +29,7 @@ import me.dannytatom.xibalba.components.EquipmentComponent;
 import me.dannytatom.xibalba.components.InventoryComponent;
 import me.dannytatom.xibalba.components.ItemComponent;
 import me.dannytatom.xibalba.components.SkillsComponent;
-import me.dannytatom.xibalba.components.statuses.BleedingComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.effects.Effect;
 import me.dannytatom.xibalba.ui.ActionButton;
 import me.dannytatom.xibalba.utils.ComponentMappers;
@@ -262,9 +262,9 @@ public class CharacterScreen implements Screen {
     // Divine Favor
     String divineFavorColor;
 
-    if (attributes.divineFavor <= 0) {
+    if (attributes.getDivineFavor() <= 0) {
       divineFavorColor = "[RED]";
-    } else if (attributes.divineFavor / 100 <= 0.5f) {
+    } else if (attributes.getDivineFavor() / 100 <= 0.5f) {
       divineFavorColor = "[YELLOW]";
     } else {
       divineFavorColor = "[WHITE]";
@@ -272,7 +272,7 @@ public class CharacterScreen implements Screen {
 
     attributesGroup.addActor(
         new Label(
-            "[LIGHT_GRAY]DF " + divineFavorColor + Math.round(attributes.divineFavor)
+            "[LIGHT_GRAY]DF " + divineFavorColor + Math.round(attributes.getDivineFavor())
                 + "[LIGHT_GRAY]/100", Main.skin
         )
     );
@@ -324,27 +324,27 @@ public class CharacterScreen implements Screen {
     // Statuses
     Array<String> statuses = new Array<>();
 
-    if (ComponentMappers.encumbered.has(player)) {
+    if (WorldManager.statusHelpers.has(player, Status.ENCUMBERED)) {
       statuses.add("[DARK_GRAY]ENCUMBERED[]");
     }
 
-    if (ComponentMappers.crippled.has(player)) {
+    if (WorldManager.statusHelpers.has(player, Status.CRIPPLED)) {
       statuses.add("[DARK_GRAY]CRIPPLED[]");
     }
 
-    if (ComponentMappers.bleeding.has(player)) {
+    if (WorldManager.statusHelpers.has(player, Status.BLEEDING)) {
       statuses.add("[DARK_GRAY]BLEEDING[]");
     }
 
-    if (ComponentMappers.poisoned.has(player)) {
+    if (WorldManager.statusHelpers.has(player, Status.POISONED)) {
       statuses.add("[DARK_GRAY]POISONED[]");
     }
 
-    if (ComponentMappers.drowning.has(player)) {
+    if (WorldManager.statusHelpers.has(player, Status.DROWNING)) {
       statuses.add("[DARK_GRAY]DROWNING[]");
     }
 
-    if (ComponentMappers.stuck.has(player)) {
+    if (WorldManager.statusHelpers.has(player, Status.STUCK)) {
       statuses.add("[DARK_GRAY]STUCK[]");
     }
 
@@ -747,7 +747,8 @@ public class CharacterScreen implements Screen {
           itemActionTable.add(dismemberButton).pad(0, 0, 5, 5);
         }
 
-        if (details.actions.contains("bandage", false) && ComponentMappers.bleeding.has(player)) {
+        if (details.actions.contains("bandage", false)
+            && WorldManager.statusHelpers.has(player, Status.BLEEDING)) {
           itemActionTable.add(bandageButton).pad(0, 0, 5, 5);
         }
 
@@ -934,7 +935,7 @@ public class CharacterScreen implements Screen {
     bandageButton.setKeys(Input.Keys.B);
     bandageButton.setAction(table, () -> {
       if (itemActionTable.getChildren().contains(bandageButton, true)) {
-        player.remove(BleedingComponent.class);
+        WorldManager.statusHelpers.remove(player, Status.BLEEDING);
         WorldManager.itemHelpers.drop(player, inventory.items.get(itemSelected), true);
         WorldManager.log.add("inventory.bandaged");
 
@@ -193,9 +193,9 @@ public class PlayScreen implements Screen {
         Main.tweenManager.update(delta);
 
         // Check for WRATH
-        if (playerAttributes.divineFavor <= 0) {
+        if (playerAttributes.getDivineFavor() <= 0) {
           god.hasWrath = true;
-        } else if (playerAttributes.divineFavor >= 25) {
+        } else if (playerAttributes.getDivineFavor() >= 25) {
           god.hasWrath = false;
         }
 
@@ -257,6 +257,7 @@ public class PlayScreen implements Screen {
   @Override
   public void dispose() {
     batch.dispose();
+    worldRenderer.dispose();
     glProfiler.disable();
   }
 }
@@ -15,12 +15,5 @@ public class AttributesSystem extends UsesEnergySystem {
   protected void processEntity(Entity entity, float deltaTime) {
     AttributesComponent attributes = ComponentMappers.attributes.get(entity);
     attributes.energy += attributes.speed;
-
-    if (ComponentMappers.player.has(entity)) {
-      // Decrease divineFavor over time.
-      if (attributes.divineFavor > 0) {
-        attributes.divineFavor -= attributes.divineFavor * 0.005;
-      }
-    }
   }
 }
@@ -2,14 +2,28 @@ package me.dannytatom.xibalba.systems;
 
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.MathUtils;
 
+import me.dannytatom.xibalba.brain.Brain;
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.BrainComponent;
-import me.dannytatom.xibalba.components.actions.MovementComponent;
+import me.dannytatom.xibalba.components.PositionComponent;
+import me.dannytatom.xibalba.components.actions.Action;
 import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.world.WorldManager;
 
+/**
+ * Runs everyone's brain, but only as often as it matters. Anyone close enough to sense the player
+ * thinks every turn, anyone a bit further out thinks every few turns and keeps following whatever
+ * path they're on in between, and everyone else sits still until they hear the player or a fight,
+ * or the player comes closer, then roughly catches up on what they'd have been doing.
+ */
 public class BrainSystem extends UsesEnergySystem {
+  // How far past their senses someone still thinks every now and then
+  private static final int MIDDLE_RING = 10;
+  // How often they do
+  private static final int MIDDLE_EVERY = 4;
+
   public BrainSystem() {
     super(Family.all(BrainComponent.class, AttributesComponent.class).get());
   }
@@ -17,24 +31,63 @@ public class BrainSystem extends UsesEnergySystem {
   @Override
   protected void processEntity(Entity entity, float deltaTime) {
     BrainComponent brain = ComponentMappers.brain.get(entity);
+    AttributesComponent attributes = ComponentMappers.attributes.get(entity);
 
-    brain.stateMachine.update();
+    int distance = distanceToPlayer(entity);
+    int senses = Math.max(attributes.vision, attributes.hearing);
+    boolean heardSomething = attributes.heardOn >= WorldManager.turnCount - 1;
 
-    if (brain.fear > 0) {
-      brain.fear -= 0.01;
-    } else if (brain.fear < 0) {
-      brain.fear = 0;
+    if (distance > senses + MIDDLE_RING && !heardSomething) {
+      return;
     }
 
-    if (brain.path != null && brain.path.size > 0) {
-      AttributesComponent attributes = ComponentMappers.attributes.get(entity);
+    int turns = WorldManager.turnCount - brain.thoughtOn;
+
+    if (distance <= senses || heardSomething || turns >= MIDDLE_EVERY) {
+      if (turns > 1) {
+        catchUp(brain, turns - 1);
+      }
+
+      brain.thoughtOn = WorldManager.turnCount;
+      brain.stateMachine.update();
 
-      if (attributes.energy >= MovementComponent.COST) {
-        Vector2 cell = brain.path.get(0);
+      if (brain.fear > 0) {
+        brain.fear -= 0.01;
+      } else if (brain.fear < 0) {
+        brain.fear = 0;
+      }
+    }
 
-        entity.add(new MovementComponent(cell));
-        brain.path.removeIndex(0);
+    if (!brain.path.isEmpty()) {
+      if (attributes.energy >= Action.MOVEMENT_COST) {
+        ComponentMappers.actions.get(entity).move(brain.path.getX(0), brain.path.getY(0));
+        brain.path.removeFirst();
       }
     }
   }
+
+  // Work out roughly what they'd be doing after some turns without thinking
+  private void catchUp(BrainComponent brain, int turns) {
+    brain.fear = Math.max(0, brain.fear - 0.01f * turns);
+
+    // Left alone long enough, dozing off and waking up back in Brain settles on them being
+    // asleep about a third of the time, and they've lost track of anyone they were after
+    if (turns >= MIDDLE_EVERY) {
+      Brain state = MathUtils.random() < 1 / 3f ? Brain.SLEEP : Brain.WANDER;
+
+      if (!brain.stateMachine.isInState(state)) {
+        brain.stateMachine.changeState(state);
+      }
+    }
+  }
+
+  private int distanceToPlayer(Entity entity) {
+    PositionComponent position = ComponentMappers.position.get(entity);
+    PositionComponent playerPosition = ComponentMappers.position.get(WorldManager.player);
+
+    return (int) Math.max(
+        Math.abs(position.pos.x - playerPosition.pos.x),
+        Math.abs(position.pos.y - playerPosition.pos.y)
+    );
+  }
 }
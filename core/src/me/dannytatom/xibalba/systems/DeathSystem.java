@@ -1,29 +1,79 @@
 package me.dannytatom.xibalba.systems;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.signals.Listener;
+import com.badlogic.ashley.signals.Signal;
+import com.badlogic.gdx.utils.Array;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
-public class DeathSystem extends UsesEnergySystem {
+/**
+ * Turns the dead into corpses. Rather than checking everyone's health every turn it only looks at
+ * whoever took enough damage to kill them since it last ran.
+ */
+public class DeathSystem extends EntitySystem implements EntityListener, Listener<Entity> {
+  private final Family family;
+  private final Array<Entity> dying;
+
   public DeathSystem() {
-    super(Family.all(AttributesComponent.class).get());
+    family = Family.all(AttributesComponent.class).get();
+    dying = new Array<>();
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    AttributesComponent attributes = ComponentMappers.attributes.get(entity);
+  public void addedToEngine(Engine engine) {
+    engine.addEntityListener(family, this);
+    WorldManager.damaged.add(this);
+  }
+
+  @Override
+  public void removedFromEngine(Engine engine) {
+    engine.removeEntityListener(this);
+    WorldManager.damaged.remove(this);
+  }
+
+  @Override
+  public void update(float deltaTime) {
+    for (int i = 0; i < dying.size; i++) {
+      Entity entity = dying.get(i);
+
+      // They might have been healed since
+      if (ComponentMappers.attributes.get(entity).health <= 0) {
+        PositionComponent position = ComponentMappers.position.get(entity);
+
+        Entity corpse = WorldManager.entityFactory.createCorpse(entity, position.pos);
+
+        WorldManager.world.addEntity(corpse);
+        WorldManager.world.removeEntity(entity);
+      }
+    }
 
-    if (attributes.health <= 0) {
-      PositionComponent position = ComponentMappers.position.get(entity);
+    dying.clear();
+  }
 
-      Entity corpse = WorldManager.entityFactory.createCorpse(entity, position.pos);
+  @Override
+  public void receive(Signal<Entity> signal, Entity entity) {
+    AttributesComponent attributes = ComponentMappers.attributes.get(entity);
 
-      WorldManager.world.addEntity(corpse);
-      WorldManager.world.removeEntity(entity);
+    if (attributes != null && attributes.health <= 0 && !dying.contains(entity, true)) {
+      dying.add(entity);
     }
   }
+
+  @Override
+  public void entityAdded(Entity entity) {
+
+  }
+
+  @Override
+  public void entityRemoved(Entity entity) {
+    dying.removeValue(entity, true);
+  }
 }
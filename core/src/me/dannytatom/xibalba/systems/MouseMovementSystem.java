@@ -5,20 +5,14 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.utils.ImmutableArray;
-import com.badlogic.gdx.math.Vector2;
-
-import java.util.ArrayList;
-import java.util.List;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.MouseMovementComponent;
 import me.dannytatom.xibalba.components.PlayerComponent;
-import me.dannytatom.xibalba.components.actions.MovementComponent;
+import me.dannytatom.xibalba.components.actions.Action;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
-import org.xguzm.pathfinding.grid.GridCell;
-
 public class MouseMovementSystem extends EntitySystem {
   private ImmutableArray<Entity> entities;
 
@@ -38,7 +32,7 @@ public class MouseMovementSystem extends EntitySystem {
   }
 
   /**
-   * Get next step in moving path, add a movement component with that position, remove step.
+   * Get next step in moving path, line up a move to that position, remove step.
    *
    * @param deltaTime Time between now and previous frame
    */
@@ -48,22 +42,19 @@ public class MouseMovementSystem extends EntitySystem {
       AttributesComponent attributes = ComponentMappers.attributes.get(WorldManager.player);
 
       // Remove mouse movement component once path is empty
-      if (playerDetails.path == null || playerDetails.path.isEmpty()) {
-        attributes.energy -= MovementComponent.COST;
+      if (playerDetails.path.isEmpty()) {
+        attributes.energy -= Action.MOVEMENT_COST;
 
         entity.remove(MouseMovementComponent.class);
         WorldManager.state = WorldManager.State.PLAYING;
       } else {
-        if (attributes.energy >= MovementComponent.COST) {
+        if (attributes.energy >= Action.MOVEMENT_COST) {
           // Start walking
-          GridCell cell = playerDetails.path.get(0);
-
-          entity.add(new MovementComponent(new Vector2(cell.getX(), cell.getY())));
-
-          List<GridCell> newPath = new ArrayList<>(playerDetails.path);
-          newPath.remove(cell);
+          ComponentMappers.actions.get(entity).move(
+              playerDetails.path.getX(0), playerDetails.path.getY(0)
+          );
 
-          playerDetails.path = newPath;
+          playerDetails.path.removeFirst();
         }
       }
     }
@@ -0,0 +1,88 @@
+package me.dannytatom.xibalba.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+import me.dannytatom.xibalba.components.EnemyComponent;
+import me.dannytatom.xibalba.components.PlayerComponent;
+import me.dannytatom.xibalba.components.PositionComponent;
+import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.world.WorldManager;
+
+public class SensesSystem extends EntitySystem implements EntityListener {
+  private ImmutableArray<Entity> entities;
+
+  public SensesSystem() {
+
+  }
+
+  /**
+   * Get the player, they're the only one with senses to keep up to date. Everyone else checks
+   * lines of sight when they need to.
+   *
+   * @param engine Ashley engine
+   */
+  public void addedToEngine(Engine engine) {
+    entities = engine.getEntitiesFor(
+        Family.all(PlayerComponent.class, PositionComponent.class).get()
+    );
+
+    engine.addEntityListener(Family.all(EnemyComponent.class).get(), this);
+  }
+
+  @Override
+  public void removedFromEngine(Engine engine) {
+    engine.removeEntityListener(this);
+  }
+
+  /**
+   * Update the player's senses if they've moved since they were last updated, however they moved,
+   * and which enemies they can sense either way.
+   *
+   * @param deltaTime Time between now and previous frame
+   */
+  public void update(float deltaTime) {
+    for (Entity entity : entities) {
+      PlayerComponent playerDetails = ComponentMappers.player.get(entity);
+      PositionComponent position = ComponentMappers.position.get(entity);
+
+      if (playerDetails.sensedX == (int) position.pos.x
+          && playerDetails.sensedY == (int) position.pos.y) {
+        WorldManager.entityHelpers.updateSensedEnemies(entity);
+
+        continue;
+      }
+
+      WorldManager.entityHelpers.updateSenses(entity);
+
+      if (playerDetails.lastHitEntity != null
+          && !WorldManager.entityHelpers.canSee(entity, playerDetails.lastHitEntity)) {
+        playerDetails.lastHitEntity = null;
+      }
+    }
+  }
+
+  @Override
+  public void entityAdded(Entity entity) {
+
+  }
+
+  /**
+   * Dead enemies shouldn't stick around in what the player senses until next turn.
+   *
+   * @param entity The enemy that got removed
+   */
+  @Override
+  public void entityRemoved(Entity entity) {
+    for (Entity player : entities) {
+      PlayerComponent playerDetails = ComponentMappers.player.get(player);
+
+      playerDetails.enemiesSeen.removeValue(entity, true);
+      playerDetails.enemiesHeard.removeValue(entity, true);
+    }
+  }
+}
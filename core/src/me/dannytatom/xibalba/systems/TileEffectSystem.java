@@ -1,54 +1,92 @@
 package me.dannytatom.xibalba.systems;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.signals.Listener;
+import com.badlogic.ashley.signals.Signal;
+import com.badlogic.gdx.math.MathUtils;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
-import me.dannytatom.xibalba.components.statuses.BurningComponent;
-import me.dannytatom.xibalba.components.statuses.DrowningComponent;
-import me.dannytatom.xibalba.components.statuses.StuckComponent;
-import me.dannytatom.xibalba.components.statuses.WetComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.world.Map;
 import me.dannytatom.xibalba.world.WorldManager;
 
-public class TileEffectSystem extends UsesEnergySystem {
+/**
+ * Whatever the cell someone's in does to them. They get looked at when they enter a cell, and then
+ * again every turn for as long as they stay somewhere that keeps doing something (water, fire).
+ */
+public class TileEffectSystem extends UsesTimersSystem implements Listener<Entity> {
   public TileEffectSystem() {
     super(Family.all(PositionComponent.class, AttributesComponent.class).get());
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
+  public void addedToEngine(Engine engine) {
+    super.addedToEngine(engine);
+
+    WorldManager.enteredCell.add(this);
+  }
+
+  @Override
+  public void removedFromEngine(Engine engine) {
+    super.removedFromEngine(engine);
+
+    WorldManager.enteredCell.remove(this);
+  }
+
+  @Override
+  public void receive(Signal<Entity> signal, Entity entity) {
+    if (ComponentMappers.attributes.has(entity)) {
+      schedule(entity, WorldManager.turnCount);
+    }
+  }
+
+  @Override
+  protected void processEntity(Entity entity, int turn) {
     PositionComponent position = ComponentMappers.position.get(entity);
     AttributesComponent attributes = ComponentMappers.attributes.get(entity);
 
-    if (WorldManager.mapHelpers.getCell(position.pos.x, position.pos.y).isWater()) {
-      entity.add(new WetComponent());
+    Map map = WorldManager.world.getCurrentMap();
+    int cellX = (int) position.pos.x;
+    int cellY = (int) position.pos.y;
+
+    if (map.isWater(cellX, cellY)) {
+      WorldManager.statusHelpers.add(entity, Status.WET, 0, MathUtils.random(1, 2));
     }
 
-    if (WorldManager.mapHelpers.getCell(position.pos.x, position.pos.y).isDeepWater()) {
+    if (map.isDeepWater(cellX, cellY)) {
       if (!WorldManager.entityHelpers.isAquatic(entity)) {
         if (attributes.oxygen >= 2) {
           attributes.oxygen -= 2;
         }
 
-        if (attributes.oxygen == 0 && !ComponentMappers.drowning.has(entity)) {
-          entity.add(new DrowningComponent());
+        if (attributes.oxygen == 0
+            && !WorldManager.statusHelpers.has(entity, Status.DROWNING)) {
+          WorldManager.statusHelpers.add(entity, Status.DROWNING);
         }
       }
     }
 
-    if (WorldManager.mapHelpers.getCell(position.pos.x, position.pos.y).onFire) {
-      entity.add(new BurningComponent(5));
+    if (map.isOnFire(cellX, cellY)) {
+      WorldManager.statusHelpers.add(entity, Status.BURNING, 5, MathUtils.random(3, 5));
     }
 
     Entity trap = WorldManager.mapHelpers.getTrapAt(position.pos);
 
     if (trap != null) {
-      if (ComponentMappers.spiderWeb.has(trap)) {
-        entity.add(new StuckComponent());
+      if (ComponentMappers.spiderWeb.has(trap)
+          && !WorldManager.statusHelpers.has(entity, Status.STUCK)) {
+        WorldManager.statusHelpers.add(entity, Status.STUCK, 0, 10);
         WorldManager.world.removeEntity(trap);
       }
     }
+
+    // Water and fire keep at it until they get out
+    if (map.isWater(cellX, cellY) || map.isOnFire(cellX, cellY)) {
+      schedule(entity, turn + 1);
+    }
   }
 }
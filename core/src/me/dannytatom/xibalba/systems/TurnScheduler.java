@@ -0,0 +1,83 @@
+package me.dannytatom.xibalba.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.gdx.utils.Array;
+
+import me.dannytatom.xibalba.components.AttributesComponent;
+import me.dannytatom.xibalba.utils.ComponentMappers;
+
+/**
+ * Everyone with energy, kept in the order they get to act in (most energy first). Systems that
+ * use energy all go through this order rather than each sorting their own entities.
+ *
+ * <p>Energy only changes a little between looks, so the order is fixed up with an insertion sort
+ * whenever it's asked for. When nothing's changed that's one pass of comparisons.
+ */
+public class TurnScheduler implements EntityListener {
+  private final Array<Entity> actors;
+
+  public TurnScheduler() {
+    actors = new Array<>(Entity.class);
+  }
+
+  /**
+   * Everyone with energy, most energy first. Anyone with the same energy stays in whatever order
+   * they were in before.
+   *
+   * @return Actors in the order they act
+   */
+  public Array<Entity> getActors() {
+    Entity[] items = actors.items;
+
+    for (int i = 1; i < actors.size; i++) {
+      Entity actor = items[i];
+      int energy = energyOf(actor);
+      int j = i - 1;
+
+      while (j >= 0 && energyOf(items[j]) < energy) {
+        items[j + 1] = items[j];
+        j -= 1;
+      }
+
+      items[j + 1] = actor;
+    }
+
+    return actors;
+  }
+
+  /**
+   * Put someone new in line after everyone with at least as much energy as them.
+   *
+   * @param entity Who got added
+   */
+  @Override
+  public void entityAdded(Entity entity) {
+    int energy = energyOf(entity);
+    int low = 0;
+    int high = actors.size;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+
+      if (energyOf(actors.get(middle)) >= energy) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    actors.insert(low, entity);
+  }
+
+  @Override
+  public void entityRemoved(Entity entity) {
+    actors.removeValue(entity, true);
+  }
+
+  private static int energyOf(Entity entity) {
+    AttributesComponent attributes = ComponentMappers.attributes.get(entity);
+
+    return attributes.energy;
+  }
+}
@@ -0,0 +1,176 @@
+package me.dannytatom.xibalba.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import me.dannytatom.xibalba.world.WorldManager;
+
+/**
+ * One timer per entity, each going off on some turn. Timers live in a two level wheel, the near
+ * one has a slot for each of the next 64 turns, the far one a slot for each of the next 64 blocks
+ * of 64 turns after that, and anything further out waits in a list. When a new block starts the
+ * far slot for it gets spread out over the near wheel, so going a turn forward only ever looks at
+ * timers that are close to going off.
+ */
+public class TurnTimers {
+  private static final int BITS = 6;
+  private static final int SLOTS = 1 << BITS;
+  private static final int MASK = SLOTS - 1;
+
+  private final ObjectMap<Entity, Timer> timers;
+  private final Array<Array<Timer>> near;
+  private final Array<Array<Timer>> far;
+  private final Array<Timer> later;
+  private final Array<Timer> late;
+  private final Array<Timer> moving;
+  private final Array<Entity> due;
+  private int time;
+
+  /**
+   * Timers starting from the current turn.
+   */
+  public TurnTimers() {
+    timers = new ObjectMap<>();
+    near = new Array<>(SLOTS);
+    far = new Array<>(SLOTS);
+
+    for (int i = 0; i < SLOTS; i++) {
+      near.add(new Array<>());
+      far.add(new Array<>());
+    }
+
+    later = new Array<>();
+    late = new Array<>();
+    moving = new Array<>();
+    due = new Array<>();
+    time = WorldManager.turnCount;
+  }
+
+  /**
+   * Set an entity's timer to go off on a turn. If it's already set it gets moved. Turns that have
+   * already been and gone go off next time the timers are advanced.
+   *
+   * @param entity Whose timer
+   * @param turn   When it goes off
+   */
+  public void schedule(Entity entity, int turn) {
+    Timer timer = timers.get(entity);
+
+    if (timer != null && timer.pending && timer.turn == turn) {
+      return;
+    }
+
+    // Anything still sitting in the wheel gets left there to be skipped
+    if (timer == null || timer.pending) {
+      if (timer != null) {
+        timer.cancelled = true;
+      }
+
+      timer = new Timer(entity);
+      timers.put(entity, timer);
+    }
+
+    timer.turn = turn;
+    timer.pending = true;
+
+    if (turn <= time) {
+      late.add(timer);
+    } else {
+      place(timer);
+    }
+  }
+
+  /**
+   * Stop an entity's timer, if it has one.
+   *
+   * @param entity Whose timer
+   */
+  public void cancel(Entity entity) {
+    Timer timer = timers.remove(entity);
+
+    if (timer != null) {
+      timer.cancelled = true;
+    }
+  }
+
+  /**
+   * Go forward to the given turn.
+   *
+   * @param turn The current turn
+   * @return Everyone whose timer went off, in the order they were set. Reused between calls.
+   */
+  public Array<Entity> advance(int turn) {
+    due.clear();
+
+    for (int i = 0; i < late.size; i++) {
+      fire(late.get(i));
+    }
+
+    late.clear();
+
+    while (time < turn) {
+      time += 1;
+
+      if ((time & MASK) == 0) {
+        if (((time >> BITS) & MASK) == 0) {
+          spread(later);
+        }
+
+        spread(far.get((time >> BITS) & MASK));
+      }
+
+      Array<Timer> slot = near.get(time & MASK);
+
+      for (int i = 0; i < slot.size; i++) {
+        fire(slot.get(i));
+      }
+
+      slot.clear();
+    }
+
+    return due;
+  }
+
+  private void fire(Timer timer) {
+    if (!timer.cancelled) {
+      timer.pending = false;
+      due.add(timer.entity);
+    }
+  }
+
+  // Move timers from a slot that covers a lot of turns into ones that cover fewer
+  private void spread(Array<Timer> timers) {
+    moving.addAll(timers);
+    timers.clear();
+
+    for (int i = 0; i < moving.size; i++) {
+      if (!moving.get(i).cancelled) {
+        place(moving.get(i));
+      }
+    }
+
+    moving.clear();
+  }
+
+  private void place(Timer timer) {
+    if (timer.turn - time < SLOTS) {
+      near.get(timer.turn & MASK).add(timer);
+    } else if ((timer.turn >> BITS) - (time >> BITS) < SLOTS) {
+      far.get((timer.turn >> BITS) & MASK).add(timer);
+    } else {
+      later.add(timer);
+    }
+  }
+
+  private static class Timer {
+    final Entity entity;
+    int turn;
+    boolean pending;
+    boolean cancelled;
+
+    Timer(Entity entity) {
+      this.entity = entity;
+    }
+  }
+}
@@ -1,26 +1,36 @@
 package me.dannytatom.xibalba.systems;
 
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.systems.SortedIteratingSystem;
+import com.badlogic.gdx.utils.Array;
 
-import java.util.Comparator;
+import me.dannytatom.xibalba.world.WorldManager;
 
-import me.dannytatom.xibalba.components.AttributesComponent;
-import me.dannytatom.xibalba.utils.ComponentMappers;
+public abstract class UsesEnergySystem extends EntitySystem {
+  private final Family family;
 
-public abstract class UsesEnergySystem extends SortedIteratingSystem {
   protected UsesEnergySystem(Family family) {
-    super(family, new EnergyComparator());
+    this.family = family;
   }
 
-  private static class EnergyComparator implements Comparator<Entity> {
-    @Override
-    public int compare(Entity e1, Entity e2) {
-      AttributesComponent a1 = ComponentMappers.attributes.get(e1);
-      AttributesComponent a2 = ComponentMappers.attributes.get(e2);
+  /**
+   * Process everyone in this system's family, in the order the turn scheduler has them in.
+   *
+   * @param deltaTime Time since last frame
+   */
+  @Override
+  public void update(float deltaTime) {
+    Array<Entity> actors = WorldManager.scheduler.getActors();
 
-      return Integer.compare(a2.energy, a1.energy);
+    for (int i = 0; i < actors.size; i++) {
+      Entity entity = actors.get(i);
+
+      if (family.matches(entity)) {
+        processEntity(entity, deltaTime);
+      }
     }
   }
+
+  protected abstract void processEntity(Entity entity, float deltaTime);
 }
@@ -0,0 +1,81 @@
+package me.dannytatom.xibalba.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.utils.Array;
+
+import me.dannytatom.xibalba.world.WorldManager;
+
+/**
+ * A system that only looks at an entity when its timer goes off, rather than every turn. Entities
+ * joining the family get processed the next time this system runs, after that it's up to
+ * processEntity to say when they're next due.
+ */
+public abstract class UsesTimersSystem extends EntitySystem implements EntityListener {
+  private final Family family;
+  private final TurnTimers timers;
+
+  protected UsesTimersSystem(Family family) {
+    this.family = family;
+    this.timers = new TurnTimers();
+  }
+
+  @Override
+  public void addedToEngine(Engine engine) {
+    engine.addEntityListener(family, this);
+  }
+
+  @Override
+  public void removedFromEngine(Engine engine) {
+    engine.removeEntityListener(this);
+  }
+
+  /**
+   * Process everyone whose timer has gone off this turn.
+   *
+   * @param deltaTime Time since last frame
+   */
+  @Override
+  public void update(float deltaTime) {
+    Array<Entity> due = timers.advance(WorldManager.turnCount);
+
+    for (int i = 0; i < due.size; i++) {
+      processEntity(due.get(i), WorldManager.turnCount);
+    }
+  }
+
+  @Override
+  public void entityAdded(Entity entity) {
+    timers.schedule(entity, WorldManager.turnCount);
+  }
+
+  @Override
+  public void entityRemoved(Entity entity) {
+    timers.cancel(entity);
+  }
+
+  /**
+   * Have an entity processed on a given turn, or the next time this system runs if that's already
+   * gone by.
+   *
+   * @param entity Who
+   * @param turn   When
+   */
+  public void schedule(Entity entity, int turn) {
+    timers.schedule(entity, turn);
+  }
+
+  /**
+   * Stop an entity from being processed until it's scheduled again.
+   *
+   * @param entity Who
+   */
+  public void cancel(Entity entity) {
+    timers.cancel(entity);
+  }
+
+  protected abstract void processEntity(Entity entity, int turn);
+}
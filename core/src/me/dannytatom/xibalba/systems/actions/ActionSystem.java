@@ -0,0 +1,177 @@
+package me.dannytatom.xibalba.systems.actions;
+
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.TweenCallback;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+import me.dannytatom.xibalba.Main;
+import me.dannytatom.xibalba.components.AttributesComponent;
+import me.dannytatom.xibalba.components.PositionComponent;
+import me.dannytatom.xibalba.components.VisualComponent;
+import me.dannytatom.xibalba.components.actions.Action;
+import me.dannytatom.xibalba.components.actions.ActionsComponent;
+import me.dannytatom.xibalba.systems.UsesEnergySystem;
+import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.utils.SpriteAccessor;
+import me.dannytatom.xibalba.world.MapSound;
+import me.dannytatom.xibalba.world.WorldManager;
+
+public class ActionSystem extends UsesEnergySystem {
+  public ActionSystem() {
+    super(Family.all(ActionsComponent.class, AttributesComponent.class).get());
+  }
+
+  /**
+   * Do everything the entity has lined up, in the order it was lined up. Anything lined up while
+   * doing them (like attacking whoever the player walked into) gets done too.
+   *
+   * @param entity    The entity to process
+   * @param deltaTime Time since last frame
+   */
+  @Override
+  protected void processEntity(Entity entity, float deltaTime) {
+    ActionsComponent actions = ComponentMappers.actions.get(entity);
+    AttributesComponent attributes = ComponentMappers.attributes.get(entity);
+
+    Action action;
+
+    while ((action = actions.next()) != null) {
+      switch (action.type) {
+        case MOVEMENT:
+          move(entity, attributes, action);
+          break;
+        case MELEE:
+          melee(entity, attributes, action);
+          break;
+        case RANGE:
+          range(entity, attributes, action);
+          break;
+        default:
+          break;
+      }
+
+      actions.free(action);
+    }
+  }
+
+  // If they can move where they're wanting to, move 'em
+  private void move(Entity entity, AttributesComponent attributes, Action action) {
+    PositionComponent position = ComponentMappers.position.get(entity);
+    VisualComponent visual = ComponentMappers.visual.get(entity);
+
+    if (action.position.x < position.pos.x) {
+      visual.sprite.setFlip(true, false);
+    } else {
+      visual.sprite.setFlip(false, false);
+    }
+
+    // If we can move, move
+    if (!WorldManager.mapHelpers.isBlocked(WorldManager.world.currentMapIndex, action.position)) {
+      updatePosition(entity, action.position);
+
+      attributes.energy -= Action.MOVEMENT_COST;
+    } else {
+      // If we can't, and the entity is the player, figure out what to do instead
+      if (ComponentMappers.player.has(entity)) {
+        Entity thing = WorldManager.mapHelpers.getEntityAt(action.position);
+
+        if (thing == null) {
+          return;
+        }
+
+        if (ComponentMappers.item.has(thing)) {
+          ArrayList<Entity> items = WorldManager.mapHelpers.getEntitiesAt(action.position);
+
+          for (Entity item : items) {
+            WorldManager.itemHelpers.addToInventory(WorldManager.player, item, true);
+          }
+
+          updatePosition(entity, action.position);
+
+          attributes.energy -= Action.MOVEMENT_COST;
+        } else if (ComponentMappers.enemy.has(thing)) {
+          WorldManager.combatHelpers.preparePlayerForMelee(thing, "body", false);
+        } else if (ComponentMappers.exit.has(thing)) {
+          WorldManager.state = WorldManager.State.GOING_DOWN;
+          attributes.energy -= Action.MOVEMENT_COST;
+        } else if (ComponentMappers.entrance.has(thing)) {
+          WorldManager.state = WorldManager.State.GOING_UP;
+          attributes.energy -= Action.MOVEMENT_COST;
+        }
+      }
+    }
+  }
+
+  private void updatePosition(Entity entity, Vector2 cell) {
+    WorldManager.entityHelpers.updatePosition(entity, cell.x, cell.y);
+
+    WorldManager.world.getCurrentMap().sound.makeNoise(
+        entity, (int) cell.x, (int) cell.y, MapSound.FOOTSTEPS
+    );
+
+    // Senses get updated by the senses system once everyone's moved
+    if (ComponentMappers.player.has(entity)) {
+      WorldManager.world.getCurrentMap().dijkstra.updateTargetPlayerLand();
+    }
+  }
+
+  private void melee(Entity entity, AttributesComponent attributes, Action action) {
+    if (action.target != null && !entity.isScheduledForRemoval()) {
+      WorldManager.combatHelpers.melee(entity, action.target, action.bodyPart, action.isFocused);
+    }
+
+    attributes.energy -= Action.MELEE_COST;
+  }
+
+  private void range(Entity entity, AttributesComponent attributes, Action action) {
+    if (!entity.isScheduledForRemoval()) {
+      // The action goes back in the pool, the throw animation needs a position of its own
+      Vector2 position = new Vector2(action.position);
+      Entity target = WorldManager.mapHelpers.getEnemyAt(position);
+
+      if (target != null) {
+        WorldManager.combatHelpers.range(
+            entity, target, action.bodyPart, action.item, action.skill, action.isFocused
+        );
+      }
+
+      if (Objects.equals(action.skill, "throwing")) {
+        ComponentMappers.item.get(action.item).throwing = false;
+      }
+
+      if (target == null) {
+        doThrowAnimation(entity, action.item, position, false);
+      } else {
+        doThrowAnimation(entity, action.item, position, true);
+      }
+    }
+
+    attributes.energy -= Action.RANGE_COST;
+  }
+
+  private void doThrowAnimation(Entity entity, Entity item, Vector2 position, boolean destroy) {
+    // We have to set the items position before starting the tween since who knows wtf
+    // position it had before it ended up in your inventory.
+    PositionComponent entityPosition = ComponentMappers.position.get(entity);
+
+    WorldManager.entityHelpers.updatePosition(item, entityPosition.pos.x, entityPosition.pos.y);
+    WorldManager.entityHelpers.updateSprite(item, entityPosition.pos.x, entityPosition.pos.y);
+
+    VisualComponent itemVisual = ComponentMappers.visual.get(item);
+
+    WorldManager.tweens.add(Tween.to(itemVisual.sprite, SpriteAccessor.XY, .1f).target(
+        position.x * Main.SPRITE_WIDTH, position.y * Main.SPRITE_HEIGHT
+    ).setCallback(
+        (type, source) -> {
+          if (type == TweenCallback.COMPLETE) {
+            WorldManager.itemHelpers.drop(entity, item, position, destroy);
+          }
+        }
+    ));
+  }
+}
@@ -5,13 +5,13 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.utils.ImmutableArray;
-import com.badlogic.gdx.math.Vector2;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.PlayerComponent;
+import me.dannytatom.xibalba.components.actions.Action;
 import me.dannytatom.xibalba.components.actions.ExploreComponent;
-import me.dannytatom.xibalba.components.actions.MovementComponent;
 import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.world.MapDijkstra;
 import me.dannytatom.xibalba.world.WorldManager;
 
 public class ExploreSystem extends EntitySystem {
@@ -58,23 +58,34 @@ public class ExploreSystem extends EntitySystem {
       }
 
       // Get new path if we're done
-      if (explore.path.size == 0) {
-        WorldManager.world.getCurrentMap().dijkstra.updatePlayerExplore();
+      if (explore.path.isEmpty()) {
+        MapDijkstra dijkstra = WorldManager.world.getCurrentMap().dijkstra;
 
-        explore.path = WorldManager.world.getCurrentMap().dijkstra.findExplorePath(
-            ComponentMappers.position.get(WorldManager.player).pos
+        // Only ask once, asking again every turn would keep pushing it back
+        if (!explore.waiting) {
+          dijkstra.updatePlayerExplore();
+          explore.waiting = true;
+        }
+
+        boolean found = dijkstra.findExplorePath(
+            ComponentMappers.position.get(WorldManager.player).pos, explore.path
         );
+
+        // Explore map is still being built, try again next turn
+        if (!found) {
+          return;
+        }
+
+        explore.waiting = false;
       }
 
       AttributesComponent attributes = ComponentMappers.attributes.get(entity);
 
       // Walk it out!
-      if (attributes.energy >= MovementComponent.COST) {
+      if (attributes.energy >= Action.MOVEMENT_COST) {
         // Start walking
-        Vector2 cell = explore.path.get(0);
-
-        entity.add(new MovementComponent(cell));
-        explore.path.removeIndex(0);
+        ComponentMappers.actions.get(entity).move(explore.path.getX(0), explore.path.getY(0));
+        explore.path.removeFirst();
       }
     }
   }
@@ -1,28 +1,27 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
-import me.dannytatom.xibalba.components.statuses.BleedingComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
-public class BleedingSystem extends UsesEnergySystem {
+public class BleedingSystem extends StatusSystem {
   public BleedingSystem() {
-    super(Family.all(BleedingComponent.class, AttributesComponent.class).get());
+    super(Status.BLEEDING);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    BleedingComponent bleeding = ComponentMappers.bleeding.get(entity);
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
+    int damage = statuses.damage[index];
 
-    if (bleeding.counter == bleeding.life) {
-      entity.remove(BleedingComponent.class);
+    if (turn >= statuses.since[index] + statuses.life[index]) {
+      WorldManager.statusHelpers.remove(entity, status);
     } else {
-      WorldManager.entityHelpers.takeDamage(entity, bleeding.damage);
+      WorldManager.entityHelpers.takeDamage(entity, damage);
 
       PositionComponent position = ComponentMappers.position.get(entity);
       WorldManager.mapHelpers.makeFloorBloody(position.pos);
@@ -33,8 +32,7 @@ public class BleedingSystem extends UsesEnergySystem {
         boolean isPlayer = ComponentMappers.player.has(entity);
 
         WorldManager.log.add(
-            "effects.bleeding.tookDamage", (isPlayer ? "You" : attributes.name),
-            bleeding.damage
+            "effects.bleeding.tookDamage", (isPlayer ? "You" : attributes.name), damage
         );
 
         if (attributes.health <= 0) {
@@ -42,7 +40,7 @@ public class BleedingSystem extends UsesEnergySystem {
         }
       }
 
-      bleeding.counter += 1;
+      schedule(entity, turn + 1);
     }
   }
 }
@@ -1,28 +1,27 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
-import me.dannytatom.xibalba.components.statuses.BurningComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
-public class BurningSystem extends UsesEnergySystem {
+public class BurningSystem extends StatusSystem {
   public BurningSystem() {
-    super(Family.all(BurningComponent.class, AttributesComponent.class).get());
+    super(Status.BURNING);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    BurningComponent burning = ComponentMappers.burning.get(entity);
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
+    int damage = statuses.damage[index];
 
-    if (burning.counter == burning.life) {
-      entity.remove(BurningComponent.class);
+    if (turn >= statuses.since[index] + statuses.life[index]) {
+      WorldManager.statusHelpers.remove(entity, status);
     } else {
-      WorldManager.entityHelpers.takeDamage(entity, burning.damage);
+      WorldManager.entityHelpers.takeDamage(entity, damage);
 
       PositionComponent position = ComponentMappers.position.get(entity);
       WorldManager.mapHelpers.makeFloorBloody(position.pos);
@@ -33,8 +32,7 @@ public class BurningSystem extends UsesEnergySystem {
         boolean isPlayer = ComponentMappers.player.has(entity);
 
         WorldManager.log.add(
-            "effects.burning.tookDamage", (isPlayer ? "You" : attributes.name),
-            burning.damage
+            "effects.burning.tookDamage", (isPlayer ? "You" : attributes.name), damage
         );
 
         if (attributes.health <= 0) {
@@ -42,7 +40,7 @@ public class BurningSystem extends UsesEnergySystem {
         }
       }
 
-      burning.counter += 1;
+      schedule(entity, turn + 1);
     }
   }
 }
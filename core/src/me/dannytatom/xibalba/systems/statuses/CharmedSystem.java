@@ -1,25 +1,25 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
-import me.dannytatom.xibalba.components.statuses.CharmedComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
-public class CharmedSystem extends UsesEnergySystem {
+public class CharmedSystem extends StatusSystem {
   public CharmedSystem() {
-    super(Family.all(CharmedComponent.class).get());
+    super(Status.CHARMED);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    CharmedComponent charmed = ComponentMappers.charmed.get(entity);
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
+    int expires = statuses.since[index] + statuses.life[index];
 
-    if (charmed.counter == charmed.life) {
-      entity.remove(CharmedComponent.class);
+    // Nothing happens until it wears off
+    if (turn >= expires) {
+      WorldManager.statusHelpers.remove(entity, status);
 
       boolean isPlayer = ComponentMappers.player.has(entity);
       AttributesComponent attributes = ComponentMappers.attributes.get(entity);
@@ -30,7 +30,7 @@ public class CharmedSystem extends UsesEnergySystem {
           (isPlayer ? "are" : "is")
       );
     } else {
-      charmed.counter += 1;
+      schedule(entity, expires);
     }
   }
 }
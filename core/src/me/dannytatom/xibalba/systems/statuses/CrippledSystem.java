@@ -1,30 +1,25 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
-import me.dannytatom.xibalba.components.statuses.CrippledComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
-import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
+import me.dannytatom.xibalba.world.WorldManager;
 
-public class CrippledSystem extends UsesEnergySystem {
+public class CrippledSystem extends StatusSystem {
   public CrippledSystem() {
-    super(Family.all(CrippledComponent.class).get());
+    super(Status.CRIPPLED);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    CrippledComponent crippled = ComponentMappers.crippled.get(entity);
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
+    // They only get every third turn, and it lasts that many of their turns
+    int expires = statuses.since[index] + statuses.life[index] * 3;
 
-    if (crippled.counter == crippled.life) {
-      entity.remove(CrippledComponent.class);
+    if (turn >= expires) {
+      WorldManager.statusHelpers.remove(entity, status);
     } else {
-      if (crippled.turnCounter == 2) {
-        crippled.turnCounter = 0;
-        crippled.counter += 1;
-      } else {
-        crippled.turnCounter += 1;
-      }
+      schedule(entity, expires);
     }
   }
 }
@@ -1,37 +1,34 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
-import me.dannytatom.xibalba.components.statuses.DrowningComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
-public class DrowningSystem extends UsesEnergySystem {
+public class DrowningSystem extends StatusSystem {
   /**
    * Handles drowning. </p> Take 5 damage for every turn you're in deep water. Once you leave deep
-   * water we remove the DrowningComponent as you're no longer drowning.
+   * water we take the status away as you're no longer drowning.
    */
   public DrowningSystem() {
-    super(
-        Family.all(
-            DrowningComponent.class, AttributesComponent.class, PositionComponent.class
-        ).get()
-    );
+    super(Status.DROWNING);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
     PositionComponent position = ComponentMappers.position.get(entity);
 
-    if (!WorldManager.mapHelpers.getCell(position.pos.x, position.pos.y).isDeepWater()) {
+    if (!WorldManager.world.getCurrentMap().isDeepWater(
+        (int) position.pos.x, (int) position.pos.y
+    )) {
       AttributesComponent attributes = ComponentMappers.attributes.get(entity);
       attributes.oxygen = attributes.maxOxygen;
 
-      entity.remove(DrowningComponent.class);
+      WorldManager.statusHelpers.remove(entity, status);
     } else {
       WorldManager.entityHelpers.takeDamage(entity, 5);
 
@@ -48,6 +45,8 @@ public class DrowningSystem extends UsesEnergySystem {
           WorldManager.log.add("effects.drowning.died", (isPlayer ? "You" : attributes.name));
         }
       }
+
+      schedule(entity, turn + 1);
     }
   }
 }
@@ -1,25 +1,17 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
-import me.dannytatom.xibalba.components.statuses.EncumberedComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
-import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 
-public class EncumberedSystem extends UsesEnergySystem {
+public class EncumberedSystem extends StatusSystem {
   public EncumberedSystem() {
-    super(Family.all(EncumberedComponent.class).get());
+    super(Status.ENCUMBERED);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    EncumberedComponent encumbered = ComponentMappers.encumbered.get(entity);
-
-    if (encumbered.turnCounter == 2) {
-      encumbered.turnCounter = 0;
-    } else {
-      encumbered.turnCounter += 1;
-    }
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
+    // All there is to it is when it started, see EntityHelpers.shouldSkipTurn
   }
 }
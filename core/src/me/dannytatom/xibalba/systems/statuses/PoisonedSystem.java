@@ -1,34 +1,34 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
-import me.dannytatom.xibalba.components.statuses.PoisonedComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
-public class PoisonedSystem extends UsesEnergySystem {
+public class PoisonedSystem extends StatusSystem {
   public PoisonedSystem() {
-    super(Family.all(PoisonedComponent.class).get());
+    super(Status.POISONED);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    PoisonedComponent poisoned = ComponentMappers.poisoned.get(entity);
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
+    int damage = statuses.damage[index];
 
-    if (poisoned.counter == poisoned.life) {
-      entity.remove(PoisonedComponent.class);
+    if (turn >= statuses.since[index] + statuses.life[index]) {
+      WorldManager.statusHelpers.remove(entity, status);
     } else {
-      WorldManager.entityHelpers.takeDamage(entity, poisoned.damage);
+      WorldManager.entityHelpers.takeDamage(entity, damage);
 
       if (WorldManager.entityHelpers.canSee(WorldManager.player, entity)) {
-        boolean isPlayer = ComponentMappers.player.has(entity);
         AttributesComponent attributes = ComponentMappers.attributes.get(entity);
 
+        boolean isPlayer = ComponentMappers.player.has(entity);
+
         WorldManager.log.add(
-            "effects.poisoned.tookDamage", (isPlayer ? "You" : attributes.name), poisoned.damage
+            "effects.poisoned.tookDamage", (isPlayer ? "You" : attributes.name), damage
         );
 
         if (attributes.health <= 0) {
@@ -36,7 +36,7 @@ public class PoisonedSystem extends UsesEnergySystem {
         }
       }
 
-      poisoned.counter += 1;
+      schedule(entity, turn + 1);
     }
   }
 }
@@ -1,36 +1,35 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 import com.badlogic.gdx.math.MathUtils;
 
 import me.dannytatom.xibalba.components.AttributesComponent;
-import me.dannytatom.xibalba.components.statuses.SickComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
-public class SickSystem extends UsesEnergySystem {
+public class SickSystem extends StatusSystem {
   public SickSystem() {
-    super(Family.all(SickComponent.class).get());
+    super(Status.SICK);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    SickComponent sick = ComponentMappers.sick.get(entity);
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
+    int damage = statuses.damage[index];
 
-    if (sick.counter == sick.life) {
-      entity.remove(SickComponent.class);
+    if (statuses.counter[index] == statuses.life[index]) {
+      WorldManager.statusHelpers.remove(entity, status);
     } else {
       if (MathUtils.random() > 0.5) {
-        WorldManager.entityHelpers.vomit(entity, sick.damage);
+        WorldManager.entityHelpers.vomit(entity, damage);
 
         if (WorldManager.entityHelpers.canSee(WorldManager.player, entity)) {
           boolean isPlayer = ComponentMappers.player.has(entity);
           AttributesComponent attributes = ComponentMappers.attributes.get(entity);
 
           WorldManager.log.add(
-              "effects.sick.tookDamage", (isPlayer ? "You" : attributes.name), sick.damage
+              "effects.sick.tookDamage", (isPlayer ? "You" : attributes.name), damage
           );
 
           if (attributes.health <= 0) {
@@ -38,8 +37,10 @@ public class SickSystem extends UsesEnergySystem {
           }
         }
 
-        sick.counter += 1;
+        statuses.counter[index] += 1;
       }
+
+      schedule(entity, turn + 1);
     }
   }
 }
@@ -0,0 +1,57 @@
+package me.dannytatom.xibalba.systems.statuses;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
+import me.dannytatom.xibalba.systems.UsesTimersSystem;
+import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.world.WorldManager;
+
+/**
+ * Processes one status. StatusHelpers lets it know whenever someone gets the status, and after
+ * that it only looks at them when processStatus says they're next due.
+ */
+public abstract class StatusSystem extends UsesTimersSystem {
+  protected final Status status;
+  protected final int index;
+
+  protected StatusSystem(Status status) {
+    super(Family.all(StatusesComponent.class).get());
+
+    this.status = status;
+    this.index = status.ordinal();
+
+    WorldManager.statusHelpers.handle(status, this);
+  }
+
+  /**
+   * Entities coming (back) into the engine only need processing if they have the status.
+   *
+   * @param entity Who got added
+   */
+  @Override
+  public void entityAdded(Entity entity) {
+    if (ComponentMappers.statuses.get(entity).has(status)) {
+      super.entityAdded(entity);
+    }
+  }
+
+  @Override
+  protected void processEntity(Entity entity, int turn) {
+    StatusesComponent statuses = ComponentMappers.statuses.get(entity);
+
+    if (!statuses.has(status)) {
+      return;
+    }
+
+    if (statuses.since[index] < 0) {
+      statuses.since[index] = turn;
+    }
+
+    processStatus(entity, statuses, turn);
+  }
+
+  protected abstract void processStatus(Entity entity, StatusesComponent statuses, int turn);
+}
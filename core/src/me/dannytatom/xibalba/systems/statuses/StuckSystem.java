@@ -1,25 +1,25 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
-import me.dannytatom.xibalba.components.statuses.StuckComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
-import me.dannytatom.xibalba.utils.ComponentMappers;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
+import me.dannytatom.xibalba.world.WorldManager;
 
-public class StuckSystem extends UsesEnergySystem {
+public class StuckSystem extends StatusSystem {
   public StuckSystem() {
-    super(Family.all(StuckComponent.class).get());
+    super(Status.STUCK);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    StuckComponent stuck = ComponentMappers.stuck.get(entity);
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
+    int expires = statuses.since[index] + statuses.life[index];
 
-    if (stuck.counter == stuck.life) {
-      entity.remove(StuckComponent.class);
+    // Nothing happens until it wears off
+    if (turn >= expires) {
+      WorldManager.statusHelpers.remove(entity, status);
     } else {
-      stuck.counter += 1;
+      schedule(entity, expires);
     }
   }
-}
\ No newline at end of file
+}
@@ -1,32 +1,34 @@
 package me.dannytatom.xibalba.systems.statuses;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
 import me.dannytatom.xibalba.components.PositionComponent;
-import me.dannytatom.xibalba.components.statuses.WetComponent;
-import me.dannytatom.xibalba.systems.UsesEnergySystem;
+import me.dannytatom.xibalba.components.StatusesComponent;
+import me.dannytatom.xibalba.components.StatusesComponent.Status;
 import me.dannytatom.xibalba.utils.ComponentMappers;
 import me.dannytatom.xibalba.world.WorldManager;
 
-public class WetSystem extends UsesEnergySystem {
+public class WetSystem extends StatusSystem {
   public WetSystem() {
-    super(Family.all(WetComponent.class, PositionComponent.class).get());
+    super(Status.WET);
   }
 
   @Override
-  protected void processEntity(Entity entity, float deltaTime) {
-    WetComponent wet = ComponentMappers.wet.get(entity);
+  protected void processStatus(Entity entity, StatusesComponent statuses, int turn) {
     PositionComponent position = ComponentMappers.position.get(entity);
 
-    if (!WorldManager.mapHelpers.getCell(position.pos.x, position.pos.y).isWater()) {
-      if (wet.counter == wet.life) {
-        entity.remove(WetComponent.class);
-      } else {
-        WorldManager.mapHelpers.makeFloorWet(position.pos);
+    if (!WorldManager.world.getCurrentMap().isWater((int) position.pos.x, (int) position.pos.y)) {
+      if (statuses.counter[index] == statuses.life[index]) {
+        WorldManager.statusHelpers.remove(entity, status);
 
-        wet.counter += 1;
+        return;
       }
+
+      WorldManager.mapHelpers.makeFloorWet(position.pos);
+
+      statuses.counter[index] += 1;
     }
+
+    schedule(entity, turn + 1);
   }
 }
@@ -0,0 +1,39 @@
+package me.dannytatom.xibalba.utils;
+
+import aurelienribon.tweenengine.TweenAccessor;
+import com.badlogic.gdx.graphics.Color;
+
+public class ColorAccessor implements TweenAccessor<Color> {
+  public static final int ALPHA = 1;
+  public static final int COLOR = 3;
+
+  @Override
+  public int getValues(Color target, int tweenType, float[] returnValues) {
+    switch (tweenType) {
+      case ALPHA:
+        returnValues[0] = target.a;
+        return 1;
+      case COLOR:
+        returnValues[0] = target.r;
+        returnValues[1] = target.g;
+        returnValues[2] = target.b;
+        return 3;
+      default:
+        return -1;
+    }
+  }
+
+  @Override
+  public void setValues(Color target, int tweenType, float[] newValues) {
+    switch (tweenType) {
+      case ALPHA:
+        target.a = newValues[0];
+        break;
+      case COLOR:
+        target.set(newValues[0], newValues[1], newValues[2], target.a);
+        break;
+      default:
+        break;
+    }
+  }
+}
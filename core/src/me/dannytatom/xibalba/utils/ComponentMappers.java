@@ -24,25 +24,14 @@ import me.dannytatom.xibalba.components.PlayerComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
 import me.dannytatom.xibalba.components.RainDropComponent;
 import me.dannytatom.xibalba.components.SkillsComponent;
+import me.dannytatom.xibalba.components.StatusesComponent;
 import me.dannytatom.xibalba.components.TraitsComponent;
 import me.dannytatom.xibalba.components.TrapComponent;
 import me.dannytatom.xibalba.components.VisualComponent;
+import me.dannytatom.xibalba.components.actions.ActionsComponent;
 import me.dannytatom.xibalba.components.actions.ExploreComponent;
-import me.dannytatom.xibalba.components.actions.MeleeComponent;
-import me.dannytatom.xibalba.components.actions.MovementComponent;
-import me.dannytatom.xibalba.components.actions.RangeComponent;
 import me.dannytatom.xibalba.components.items.AmmunitionComponent;
 import me.dannytatom.xibalba.components.items.WeaponComponent;
-import me.dannytatom.xibalba.components.statuses.BleedingComponent;
-import me.dannytatom.xibalba.components.statuses.BurningComponent;
-import me.dannytatom.xibalba.components.statuses.CharmedComponent;
-import me.dannytatom.xibalba.components.statuses.CrippledComponent;
-import me.dannytatom.xibalba.components.statuses.DrowningComponent;
-import me.dannytatom.xibalba.components.statuses.EncumberedComponent;
-import me.dannytatom.xibalba.components.statuses.PoisonedComponent;
-import me.dannytatom.xibalba.components.statuses.SickComponent;
-import me.dannytatom.xibalba.components.statuses.StuckComponent;
-import me.dannytatom.xibalba.components.statuses.WetComponent;
 import me.dannytatom.xibalba.components.traps.SpiderWebComponent;
 
 public final class ComponentMappers {
@@ -55,8 +44,8 @@ public final class ComponentMappers {
   public static final ComponentMapper<PositionComponent> position =
       ComponentMapper.getFor(PositionComponent.class);
 
-  public static final ComponentMapper<MovementComponent> movement =
-      ComponentMapper.getFor(MovementComponent.class);
+  public static final ComponentMapper<ActionsComponent> actions =
+      ComponentMapper.getFor(ActionsComponent.class);
 
   public static final ComponentMapper<MouseMovementComponent> mouseMovement =
       ComponentMapper.getFor(MouseMovementComponent.class);
@@ -79,41 +68,8 @@ public final class ComponentMappers {
   public static final ComponentMapper<GodComponent> god =
       ComponentMapper.getFor(GodComponent.class);
 
-  public static final ComponentMapper<EncumberedComponent> encumbered =
-      ComponentMapper.getFor(EncumberedComponent.class);
-
-  public static final ComponentMapper<CharmedComponent> charmed =
-      ComponentMapper.getFor(CharmedComponent.class);
-
-  public static final ComponentMapper<CrippledComponent> crippled =
-      ComponentMapper.getFor(CrippledComponent.class);
-
-  public static final ComponentMapper<BleedingComponent> bleeding =
-      ComponentMapper.getFor(BleedingComponent.class);
-
-  public static final ComponentMapper<BurningComponent> burning =
-      ComponentMapper.getFor(BurningComponent.class);
-
-  public static final ComponentMapper<DrowningComponent> drowning =
-      ComponentMapper.getFor(DrowningComponent.class);
-
-  public static final ComponentMapper<StuckComponent> stuck =
-      ComponentMapper.getFor(StuckComponent.class);
-
-  public static final ComponentMapper<PoisonedComponent> poisoned =
-      ComponentMapper.getFor(PoisonedComponent.class);
-
-  public static final ComponentMapper<SickComponent> sick =
-      ComponentMapper.getFor(SickComponent.class);
-
-  public static final ComponentMapper<WetComponent> wet =
-      ComponentMapper.getFor(WetComponent.class);
-
-  public static final ComponentMapper<MeleeComponent> melee =
-      ComponentMapper.getFor(MeleeComponent.class);
-
-  public static final ComponentMapper<RangeComponent> range =
-      ComponentMapper.getFor(RangeComponent.class);
+  public static final ComponentMapper<StatusesComponent> statuses =
+      ComponentMapper.getFor(StatusesComponent.class);
 
   public static final ComponentMapper<EffectsComponent> effects =
       ComponentMapper.getFor(EffectsComponent.class);
@@ -26,8 +26,10 @@ import me.dannytatom.xibalba.components.LimbComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
 import me.dannytatom.xibalba.components.RainDropComponent;
 import me.dannytatom.xibalba.components.SkillsComponent;
+import me.dannytatom.xibalba.components.StatusesComponent;
 import me.dannytatom.xibalba.components.TrapComponent;
 import me.dannytatom.xibalba.components.VisualComponent;
+import me.dannytatom.xibalba.components.actions.ActionsComponent;
 import me.dannytatom.xibalba.components.items.AmmunitionComponent;
 import me.dannytatom.xibalba.components.items.ArmorComponent;
 import me.dannytatom.xibalba.components.items.WeaponComponent;
@@ -99,6 +101,9 @@ public class EntityFactory {
         data.attributes.get("agility")
     ));
 
+    entity.add(new StatusesComponent());
+    entity.add(new ActionsComponent());
+
     BrainComponent brain = new BrainComponent(entity);
     entity.add(brain);
 
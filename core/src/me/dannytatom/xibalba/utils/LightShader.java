@@ -0,0 +1,42 @@
+package me.dannytatom.xibalba.utils;
+
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+// Darkness and colored light for a whole map in one go. u_texture holds how dark (r) and how lit
+// (g) each cell is, u_lights holds the light colors. Output is premultiplied, so draw it with
+// GL_ONE, GL_ONE_MINUS_SRC_ALPHA.
+public class LightShader {
+  private static final String vertexShader
+      = "attribute vec4 a_position;\n"
+      + "attribute vec4 a_color;\n"
+      + "attribute vec2 a_texCoord0;\n"
+      + "uniform mat4 u_projTrans;\n"
+      + "varying vec2 v_texCoords;\n"
+      + "\n"
+      + "void main() {\n"
+      + "    v_texCoords = a_texCoord0;\n"
+      + "    gl_Position = u_projTrans * a_position;\n"
+      + "}";
+
+  private static final String fragmentShader
+      = "#ifdef GL_ES\n"
+      + "    precision mediump float;\n"
+      + "#endif\n"
+      + "\n"
+      + "varying vec2 v_texCoords;\n"
+      + "uniform sampler2D u_texture;\n"
+      + "uniform sampler2D u_lights;\n"
+      + "uniform vec4 u_shadowColor;\n"
+      + "uniform float u_grayness;\n"
+      + "\n"
+      + "void main() {\n"
+      + "  vec4 cell = texture2D(u_texture, v_texCoords);\n"
+      + "  vec3 light = texture2D(u_lights, v_texCoords).rgb;\n"
+      + "  float gray = dot(light, vec3(0.22, 0.707, 0.071));\n"
+      + "  light = mix(light, vec3(gray), u_grayness);\n"
+      + "  vec3 color = light * cell.g + u_shadowColor.rgb * cell.r * (1.0 - cell.g);\n"
+      + "  gl_FragColor = vec4(color, 1.0 - (1.0 - cell.r) * (1.0 - cell.g));\n"
+      + "}";
+
+  public static final ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+}
@@ -21,8 +21,10 @@ import me.dannytatom.xibalba.components.InventoryComponent;
 import me.dannytatom.xibalba.components.PlayerComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
 import me.dannytatom.xibalba.components.SkillsComponent;
+import me.dannytatom.xibalba.components.StatusesComponent;
 import me.dannytatom.xibalba.components.TraitsComponent;
 import me.dannytatom.xibalba.components.VisualComponent;
+import me.dannytatom.xibalba.components.actions.ActionsComponent;
 import me.dannytatom.xibalba.effects.Charm;
 import me.dannytatom.xibalba.effects.JumpOverEnemy;
 import me.dannytatom.xibalba.effects.Knockback;
@@ -102,6 +104,8 @@ public class PlayerSetup {
 
     player.add(skills);
     player.add(attributes);
+    player.add(new StatusesComponent());
+    player.add(new ActionsComponent());
 
     Vector2 position = WorldManager.mapHelpers.getRandomOpenPositionOnLand(
         WorldManager.world.currentMapIndex
@@ -3,227 +3,252 @@ package me.dannytatom.xibalba.world;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
-import org.apache.commons.lang3.ArrayUtils;
+import java.util.Arrays;
 
 class Dijkstra {
-  private final Map map;
-  private final MapCell[][] cellMap;
-  private final MapCell.Type[] walkableTypes;
-  private int[][] graph;
+  static final int UNREACHABLE = Integer.MAX_VALUE;
+
+  // North, NorthEast, East, SouthEast, South, SouthWest, West, NorthWest
+  private static final int[] NEIGHBOUR_X = {0, 1, 1, 1, 0, -1, -1, -1};
+  private static final int[] NEIGHBOUR_Y = {1, 1, 0, -1, -1, -1, 0, 1};
+
+  private final int width;
+  private final int height;
+  private final int walkableTypes;
+  private final int[] graph;
+  private int[] queue;
+  private int offset = 0;
+  // Cell types it was built on, see Map.copyTypes, and its goal if it only has the one
+  private byte[] types;
+  private Vector2 goal;
+
+  // Which request to MapDijkstra.Background this was last built for
+  int generation;
 
   /**
-   * Dijkstra map.
+   * Dijkstra map, empty until it's built.
    *
-   * @param map           The level map
-   * @param walkableTypes A list of walkable types
-   * @param goals         A list of goals for this dijkstra map
+   * @param width         Map width
+   * @param height        Map height
+   * @param walkableTypes Mask of walkable types, see MapCell.mask
    */
-  public Dijkstra(Map map, MapCell.Type[] walkableTypes, Array<Vector2> goals) {
-    this.map = map;
-    this.cellMap = this.map.getCellMap();
+  Dijkstra(int width, int height, int walkableTypes) {
+    this.width = width;
+    this.height = height;
     this.walkableTypes = walkableTypes;
+    this.graph = new int[width * height];
+  }
+
+  /**
+   * Build it from scratch, over whatever was here before.
+   *
+   * @param types Cell types to build on, these are kept so don't change them afterwards
+   * @param goals A list of goals for this dijkstra map
+   */
+  void build(byte[] types, Array<Vector2> goals) {
+    this.types = types;
+    this.goal = goals.size == 1 ? goals.first() : null;
 
     createGraph(goals);
   }
 
-  // To get a Dijkstra graph, you start with an integer array representing your graph,
-  // with some set of goal cells set to zero and all the rest set to a very high number.
-  //
-  // Iterate through the graph's "floor" cells -- skip the impassable wall cells.
-  // If any floor tile has a value that is at least 2 greater than its lowest-value floor neighbor,
-  // set it to be exactly 1 greater than its lowest value neighbor.
-  // Repeat until no changes are made.
+  /**
+   * Whether or not this was built on these cell types.
+   *
+   * @param types Cell types, compared by identity
+   * @return If it was
+   */
+  boolean isBuiltOn(byte[] types) {
+    return this.types == types;
+  }
+
+  Vector2 getGoal() {
+    return goal;
+  }
+
+  // Every step costs the same, so instead of relaxing the whole grid until nothing changes
+  // we can flood outwards from the goals breadth first. Every cell gets its final value
+  // the first time it's reached, so each cell is only looked at once.
   //
   // The resulting grid of numbers represents the number of steps that it
   // will take to get from any given tile to the nearest goal.
   //
   // To find a path, you just walk downhill from starting position to goal position.
   private void createGraph(Array<Vector2> goals) {
-    graph = new int[map.width][map.height];
+    Arrays.fill(graph, UNREACHABLE);
+    offset = 0;
 
-    for (int x = 0; x < graph.length; x++) {
-      for (int y = 0; y < graph[x].length; y++) {
-        graph[x][y] = 100;
-      }
-    }
+    int[] queue = queue();
+    int tail = 0;
 
     for (int i = 0; i < goals.size; i++) {
       Vector2 goal = goals.get(i);
+      int goalX = (int) goal.x;
+      int goalY = (int) goal.y;
 
-      graph[(int) goal.x][(int) goal.y] = 0;
+      if (!contains(goalX, goalY) || get(goalX, goalY) == 0) {
+        continue;
+      }
+
+      set(index(goalX, goalY), 0);
+
+      // Goals you can't stand on don't lead anywhere
+      if (canWalk(goalX, goalY)) {
+        queue[tail++] = index(goalX, goalY);
+      }
     }
 
-    boolean dirty = true;
-
-    while (dirty) {
-      boolean changed = false;
-
-      for (int x = 0; x < graph.length; x++) {
-        for (int y = 0; y < graph[x].length; y++) {
-          if (canWalk(x, y)) {
-            int bestNeighbour = 100;
-
-            // North
-            if (canWalk(x, y + 1)) {
-              if (graph[x][y + 1] < bestNeighbour) {
-                bestNeighbour = graph[x][y + 1];
-              }
-            }
-
-            // NorthEast
-            if (canWalk(x + 1, y + 1)) {
-              if (graph[x + 1][y + 1] < bestNeighbour) {
-                bestNeighbour = graph[x + 1][y + 1];
-              }
-            }
-
-            // East
-            if (canWalk(x + 1, y)) {
-              if (graph[x + 1][y] < bestNeighbour) {
-                bestNeighbour = graph[x + 1][y];
-              }
-            }
-
-            // SouthEast
-            if (canWalk(x + 1, y - 1)) {
-              if (graph[x + 1][y - 1] < bestNeighbour) {
-                bestNeighbour = graph[x + 1][y - 1];
-              }
-            }
-
-            // South
-            if (canWalk(x, y - 1)) {
-              if (graph[x][y - 1] < bestNeighbour) {
-                bestNeighbour = graph[x][y - 1];
-              }
-            }
-
-            // SouthWest
-            if (canWalk(x - 1, y - 1)) {
-              if (graph[x - 1][y - 1] < bestNeighbour) {
-                bestNeighbour = graph[x - 1][y - 1];
-              }
-            }
-
-            // West
-            if (canWalk(x - 1, y)) {
-              if (graph[x - 1][y] < bestNeighbour) {
-                bestNeighbour = graph[x - 1][y];
-              }
-            }
-
-            // NorthWest
-            if (canWalk(x - 1, y + 1)) {
-              if (graph[x - 1][y + 1] < bestNeighbour) {
-                bestNeighbour = graph[x - 1][y + 1];
-              }
-            }
-
-            if (graph[x][y] > bestNeighbour + 2) {
-              graph[x][y] = bestNeighbour + 1;
-              changed = true;
-            }
+    flood(0, tail);
+  }
+
+  // Flood outwards from whatever's in the queue, only ever making values smaller.
+  // Everything comes out of the queue in order of distance, so every cell gets
+  // its final value the first time it's reached.
+  private void flood(int head, int tail) {
+    int[] queue = queue();
+
+    while (head < tail) {
+      int cell = queue[head++];
+      int cellX = cell / height;
+      int cellY = cell % height;
+      int value = value(cell) + 1;
+
+      for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+        int neighbourX = cellX + NEIGHBOUR_X[i];
+        int neighbourY = cellY + NEIGHBOUR_Y[i];
+
+        if (canWalk(neighbourX, neighbourY)) {
+          int neighbour = index(neighbourX, neighbourY);
+
+          if (value(neighbour) > value) {
+            set(neighbour, value);
+            queue[tail++] = neighbour;
           }
         }
       }
-
-      dirty = changed;
     }
   }
 
   /**
-   * Go until we find a goal of 0.
+   * Move a single goal to a neighbouring cell, only touching the cells that end up closer to it
+   * than they'd be by just adding a step.
    *
-   * @param start Starting position
-   * @return The path to take
+   * <p>When the goal moves one step, no cell can get more than one step further away. So we bump
+   * every value by one (by bumping an offset, not the values themselves), which can only ever be
+   * too high, then flood outwards from the new goal lowering anything that's now closer. Cells
+   * that are really a step further away never get looked at.
+   *
+   * @param to Where it is now
+   * @return False if the move was too big (or weird) to repair, and the map needs rebuilding
    */
-  public Array<Vector2> findPath(Vector2 start) {
-    Array<Vector2> path = new Array<>();
+  boolean moveGoal(Vector2 to) {
+    if (goal == null) {
+      return false;
+    }
 
-    path.add(start);
+    Vector2 from = goal;
+    int fromX = (int) from.x;
+    int fromY = (int) from.y;
+    int toX = (int) to.x;
+    int toY = (int) to.y;
 
-    boolean buildingPath = true;
+    if (Math.abs(toX - fromX) > 1 || Math.abs(toY - fromY) > 1
+        || !canWalk(fromX, fromY) || !canWalk(toX, toY) || get(fromX, fromY) != 0) {
+      return false;
+    }
 
-    while (buildingPath) {
-      int lastX = (int) path.get(path.size - 1).x;
-      int lastY = (int) path.get(path.size - 1).y;
-      int lastValue = get(lastX, lastY);
+    goal = to;
 
-      // Stop if we've gotten to a goal
-      if (lastValue == 0) {
-        buildingPath = false;
-      }
+    if (fromX == toX && fromY == toY) {
+      return true;
+    }
 
-      // North
-      if (canWalk(lastX, lastY + 1) && get(lastX, lastY + 1) == lastValue - 1) {
-        path.add(new Vector2(lastX, lastY + 1));
+    offset += 1;
 
-        continue;
-      }
+    int goal = index(toX, toY);
+    set(goal, 0);
+    queue()[0] = goal;
 
-      // NorthEast
-      if (canWalk(lastX + 1, lastY + 1) && get(lastX + 1, lastY + 1) == lastValue - 1) {
-        path.add(new Vector2(lastX + 1, lastY + 1));
+    flood(0, 1);
 
-        continue;
-      }
+    return true;
+  }
 
-      // East
-      if (canWalk(lastX + 1, lastY) && get(lastX + 1, lastY) == lastValue - 1) {
-        path.add(new Vector2(lastX + 1, lastY));
+  /**
+   * Go until we find a goal of 0.
+   *
+   * @param start Starting position
+   * @param path  Where to put the path, whatever was in it gets cleared
+   */
+  public void findPath(Vector2 start, Path path) {
+    path.clear();
 
-        continue;
-      }
+    int lastX = (int) start.x;
+    int lastY = (int) start.y;
 
-      // SouthEast
-      if (canWalk(lastX + 1, lastY - 1) && get(lastX + 1, lastY - 1) == lastValue - 1) {
-        path.add(new Vector2(lastX + 1, lastY - 1));
+    path.add(lastX, lastY);
 
-        continue;
-      }
+    if (!contains(lastX, lastY)) {
+      return;
+    }
 
-      // South
-      if (canWalk(lastX, lastY - 1) && get(lastX, lastY - 1) == lastValue - 1) {
-        path.add(new Vector2(lastX, lastY - 1));
+    int lastValue = get(lastX, lastY);
 
-        continue;
-      }
+    while (lastValue > 0 && lastValue != UNREACHABLE) {
+      boolean stepped = false;
 
-      // SouthWest
-      if (canWalk(lastX - 1, lastY - 1) && get(lastX - 1, lastY - 1) == lastValue - 1) {
-        path.add(new Vector2(lastX - 1, lastY - 1));
+      for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+        int neighbourX = lastX + NEIGHBOUR_X[i];
+        int neighbourY = lastY + NEIGHBOUR_Y[i];
 
-        continue;
-      }
+        if (canWalk(neighbourX, neighbourY) && get(neighbourX, neighbourY) == lastValue - 1) {
+          path.add(neighbourX, neighbourY);
 
-      // West
-      if (canWalk(lastX - 1, lastY) && get(lastX - 1, lastY) == lastValue - 1) {
-        path.add(new Vector2(lastX - 1, lastY));
+          lastX = neighbourX;
+          lastY = neighbourY;
+          lastValue -= 1;
+          stepped = true;
 
-        continue;
+          break;
+        }
       }
 
-      // NorthWest
-      if (canWalk(lastX - 1, lastY + 1) && get(lastX - 1, lastY + 1) == lastValue - 1) {
-        path.add(new Vector2(lastX - 1, lastY + 1));
-
-        continue;
+      // If we couldn't find a next step, stop
+      if (!stepped) {
+        break;
       }
+    }
+  }
 
-      // If we couldn't find a next step, stop
-      buildingPath = false;
+  private int[] queue() {
+    if (queue == null) {
+      queue = new int[graph.length];
     }
 
-    return path;
+    return queue;
   }
 
   private int get(int cellX, int cellY) {
-    return graph[cellX][cellY];
+    return value(index(cellX, cellY));
+  }
+
+  private int value(int cell) {
+    return graph[cell] == UNREACHABLE ? UNREACHABLE : graph[cell] + offset;
+  }
+
+  private void set(int cell, int value) {
+    graph[cell] = value - offset;
+  }
+
+  private int index(int cellX, int cellY) {
+    return cellX * height + cellY;
+  }
+
+  private boolean contains(int cellX, int cellY) {
+    return cellX >= 0 && cellX < width && cellY >= 0 && cellY < height;
   }
 
   private boolean canWalk(int cellX, int cellY) {
-    return cellX > 0 && cellX < cellMap.length
-        && cellY > 0 && cellY < cellMap[0].length
-        && ArrayUtils.contains(walkableTypes, cellMap[cellX][cellY].type);
+    return contains(cellX, cellY) && MapCell.isOneOf(types[index(cellX, cellY)], walkableTypes);
   }
 }
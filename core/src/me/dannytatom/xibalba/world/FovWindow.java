@@ -0,0 +1,98 @@
+package me.dannytatom.xibalba.world;
+
+import java.util.Arrays;
+
+/**
+ * The part of the map a field of view can reach, rather than the whole map. Whoever owns one
+ * keeps reusing it, it only grows when it's pointed at something bigger than it's been before.
+ *
+ * <p>Everything outside the window is 0, so it can be asked about any cell on the map.
+ */
+public class FovWindow {
+  private float[] values;
+  private int minX;
+  private int minY;
+  private int maxX;
+  private int maxY;
+
+  public FovWindow() {
+    values = new float[0];
+    minX = 0;
+    minY = 0;
+    maxX = -1;
+    maxY = -1;
+  }
+
+  /**
+   * Move the window to cover a rectangle of cells (inclusive) and clear it.
+   *
+   * @param minX Left edge
+   * @param minY Bottom edge
+   * @param maxX Right edge
+   * @param maxY Top edge
+   */
+  void reset(int minX, int minY, int maxX, int maxY) {
+    this.minX = minX;
+    this.minY = minY;
+    this.maxX = Math.max(maxX, minX - 1);
+    this.maxY = Math.max(maxY, minY - 1);
+
+    int size = (this.maxX - minX + 1) * (this.maxY - minY + 1);
+
+    if (values.length < size) {
+      values = new float[size];
+    } else {
+      Arrays.fill(values, 0, size, 0);
+    }
+  }
+
+  /**
+   * Make the window cover a whole map, with every cell set to the same value.
+   *
+   * @param map   The map
+   * @param value What every cell should be
+   */
+  public void fill(Map map, float value) {
+    reset(0, 0, map.width - 1, map.height - 1);
+    Arrays.fill(values, 0, map.width * map.height, value);
+  }
+
+  public boolean contains(int cellX, int cellY) {
+    return cellX >= minX && cellX <= maxX && cellY >= minY && cellY <= maxY;
+  }
+
+  /**
+   * How much of a cell is in view, by world position.
+   *
+   * @param cellX x of the cell
+   * @param cellY y of the cell
+   * @return 0 if it's not in view (or not in the window at all), up to 1 for fully in view
+   */
+  public float get(int cellX, int cellY) {
+    return contains(cellX, cellY) ? values[index(cellX, cellY)] : 0;
+  }
+
+  void set(int cellX, int cellY, float value) {
+    values[index(cellX, cellY)] = value;
+  }
+
+  public int getMinX() {
+    return minX;
+  }
+
+  public int getMinY() {
+    return minY;
+  }
+
+  public int getMaxX() {
+    return maxX;
+  }
+
+  public int getMaxY() {
+    return maxY;
+  }
+
+  private int index(int cellX, int cellY) {
+    return (cellX - minX) * (maxY - minY + 1) + (cellY - minY);
+  }
+}
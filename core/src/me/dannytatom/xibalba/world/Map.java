@@ -3,32 +3,56 @@ package me.dannytatom.xibalba.world;
 import aurelienribon.tweenengine.Tween;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Colors;
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Objects;
 
 import me.dannytatom.xibalba.Main;
-import me.dannytatom.xibalba.utils.SpriteAccessor;
+import me.dannytatom.xibalba.utils.ColorAccessor;
 
 public class Map {
+  // Handed out whenever a map's opacity changes, so versions are never the same across maps
+  private static int opacityVersions = 0;
+
   public final int width;
   public final int height;
   public final int depth;
   public final String type;
   public final MapCell.Type[][] geometry;
   public final MapDijkstra dijkstra;
+  public final MapChunks chunks;
+  public final MapSpatialIndex spatialIndex;
+  public final MapNavigation navigation;
+  public final MapSight sight;
+  public final MapSound sound;
   public boolean hasWater = false;
   public Vector2 entrance;
   public Vector2 exit;
   public MapLight light;
   public MapWeather weather;
   public ArrayList<MapFire> fires;
-  private MapCell[][] map;
+  private final byte[] types;
+  private final byte[] coverings;
+  private final byte[] flags;
+  private final short[] glyphs;
+  private final short[] colors;
+  private final short[] descriptions;
+  private final MapPalette palette;
+  private final Bits opaque;
+  // What the player sees right now, and every cell they've ever seen. Hidden cells are ones
+  // that haven't been explored, forgotten cells are explored ones that aren't seen.
+  private final Bits seen;
+  private final Bits explored;
+  private final Bits changed;
+  private final Array<Tween> waterTweens;
+  private int opacityVersion;
+  private int typesVersion;
   private MapCell.Type[][] flooded;
   private int floodedCount = 0;
 
@@ -45,12 +69,36 @@ public class Map {
     this.width = this.geometry.length;
     this.height = this.geometry[0].length;
 
+    this.types = new byte[width * height];
+    this.coverings = new byte[width * height];
+    this.flags = new byte[width * height];
+    this.glyphs = new short[width * height];
+    this.colors = new short[width * height];
+    this.descriptions = new short[width * height];
+    this.palette = new MapPalette();
+    this.opaque = new Bits(width * height);
+    this.seen = new Bits(width * height);
+    this.explored = new Bits(width * height);
+    this.changed = new Bits(width * height);
+    this.opacityVersion = ++opacityVersions;
+    this.waterTweens = new Array<>();
+
+    // Every cell starts out as nothing, which can't be seen through
+    for (int i = 0; i < width * height; i++) {
+      opaque.set(i);
+    }
+
     this.dijkstra = new MapDijkstra(this);
+    this.chunks = new MapChunks(width, height);
+    this.spatialIndex = new MapSpatialIndex(width, height, chunks);
+    this.navigation = new MapNavigation(this);
+    this.sight = new MapSight(this);
+    this.sound = new MapSound(this);
     this.fires = new ArrayList<>();
   }
 
   /**
-   * Turn geometry into a MapCell[][] of real tiles based on map type.
+   * Turn geometry into real tiles based on map type.
    */
   public void paint() {
     switch (type) {
@@ -66,8 +114,6 @@ public class Map {
   }
 
   private void paintForest() {
-    map = new MapCell[width][height];
-
     Array<String> floorTypes = new Array<>();
     floorTypes.add("0915");
     floorTypes.add("1202");
@@ -75,22 +121,17 @@ public class Map {
     for (int x = 0; x < geometry.length; x++) {
       for (int y = 0; y < geometry[x].length; y++) {
         if (geometry[x][y] == MapCell.Type.FLOOR) {
-          Sprite floor = Main.asciiAtlas.createSprite(floorTypes.random());
-          floor.setColor(Colors.get("forestFloor"));
-          floor.setFlip(MathUtils.randomBoolean(), false);
-
-          map[x][y] = new MapCell(
-              floor, MapCell.Type.FLOOR, "the forest floor"
+          setCell(
+              x, y, MapCell.Type.FLOOR, floorTypes.random(),
+              Colors.get("forestFloor"), "the forest floor"
           );
+          setFlipped(x, y, MathUtils.randomBoolean());
         } else {
-          Sprite wall = Main.asciiAtlas.createSprite("0" + MathUtils.random(5, 6) + "00");
-          Color color = Colors.get("forestTree-" + MathUtils.random(1, 3));
-          wall.setColor(color);
-
-          map[x][y] = new MapCell(wall, MapCell.Type.WALL, "a tree");
+          setCell(
+              x, y, MapCell.Type.WALL, "0" + MathUtils.random(5, 6) + "00",
+              Colors.get("forestTree-" + MathUtils.random(1, 3)), "a tree"
+          );
         }
-
-        map[x][y].sprite.setPosition(x * Main.SPRITE_WIDTH, y * Main.SPRITE_HEIGHT);
       }
     }
 
@@ -101,29 +142,22 @@ public class Map {
   }
 
   private void paintCave() {
-    map = new MapCell[width][height];
-
     for (int x = 0; x < geometry.length; x++) {
       for (int y = 0; y < geometry[x].length; y++) {
         if (geometry[x][y] == MapCell.Type.FLOOR) {
-          Sprite floor = Main.asciiAtlas.createSprite("0915");
-          Color color = Colors.get("caveFloor-" + +MathUtils.random(1, 3));
-          floor.setColor(color);
-          map[x][y] = new MapCell(floor, MapCell.Type.FLOOR, "a cave floor");
+          setCell(
+              x, y, MapCell.Type.FLOOR, "0915",
+              Colors.get("caveFloor-" + +MathUtils.random(1, 3)), "a cave floor"
+          );
         } else {
           int neighbours = getGroundNeighbours(x, y);
 
           if (neighbours > 0) {
-            Sprite wall = Main.asciiAtlas.createSprite("1113");
-            wall.setColor(Colors.get("caveWall"));
-            map[x][y] = new MapCell(wall, MapCell.Type.WALL, "a cave wall");
+            setCell(x, y, MapCell.Type.WALL, "1113", Colors.get("caveWall"), "a cave wall");
           } else {
-            Sprite nothing = Main.asciiAtlas.createSprite("0000");
-            map[x][y] = new MapCell(nothing, MapCell.Type.NOTHING, "nothing");
+            setCell(x, y, MapCell.Type.NOTHING, "0000", Color.WHITE, "nothing");
           }
         }
-
-        map[x][y].sprite.setPosition(x * Main.SPRITE_WIDTH, y * Main.SPRITE_HEIGHT);
       }
     }
 
@@ -147,70 +181,76 @@ public class Map {
     do {
       floodStartX = MathUtils.random(0, width - 1);
       floodStartY = MathUtils.random(0, height - 1);
-    } while (!map[floodStartX][floodStartY].isFloor());
+    } while (!isFloor(floodStartX, floodStartY));
 
     flood(floodStartX, floodStartY);
 
+    boolean isForest = Objects.equals(type, "forest");
+
+    // Rather than a tween per water cell, each kind of water gets a handful of
+    // colors tweening out of step with each other, and cells pick one at random
+    Color[] shallow = createWaterColors(
+        Colors.get(isForest ? "waterShallowLightBlue" : "waterShallowLightGreen"),
+        Colors.get(isForest ? "waterShallowDarkBlue" : "waterShallowDarkGreen")
+    );
+
+    Color[] deep = createWaterColors(
+        Colors.get(isForest ? "waterDeepLightBlue" : "waterDeepLightGreen"),
+        Colors.get(isForest ? "waterDeepDarkBlue" : "waterDeepDarkGreen")
+    );
+
     for (int x = 0; x < flooded.length; x++) {
       for (int y = 0; y < flooded[0].length; y++) {
         if (flooded[x][y] == MapCell.Type.FLOOR) {
-          Sprite water = Main.asciiAtlas.createSprite("0715");
-          water.setPosition(x * Main.SPRITE_WIDTH, y * Main.SPRITE_HEIGHT);
-
-          MapCell.Type waterType;
-          Color lightColor;
-          Color darkColor;
-
           if (getGroundNeighbours(x, y) < 8) {
-            waterType = MapCell.Type.SHALLOW_WATER;
-
-            lightColor = Colors.get(
-                Objects.equals(type, "forest") ? "waterShallowLightBlue" : "waterShallowLightGreen"
-            );
-
-            darkColor = Colors.get(
-                Objects.equals(type, "forest") ? "waterShallowDarkBlue" : "waterShallowDarkGreen"
+            setCell(
+                x, y, MapCell.Type.SHALLOW_WATER, "0715",
+                shallow[MathUtils.random(shallow.length - 1)], "water"
             );
           } else {
-            waterType = MapCell.Type.DEEP_WATER;
-
-            lightColor = Colors.get(
-                Objects.equals(type, "forest") ? "waterDeepLightBlue" : "waterDeepLightGreen"
-            );
-
-            darkColor = Colors.get(
-                Objects.equals(type, "forest") ? "waterDeepDarkBlue" : "waterDeepDarkGreen"
+            setCell(
+                x, y, MapCell.Type.DEEP_WATER, "0715",
+                deep[MathUtils.random(deep.length - 1)], "water"
             );
           }
 
-          water.setColor(lightColor);
-          Tween tween = Tween.to(water, SpriteAccessor.COLOR, .5f).target(
-              darkColor.r, darkColor.g, darkColor.b
-          ).repeatYoyo(Tween.INFINITY, MathUtils.random());
-
-          map[x][y] = new MapCell(water, waterType, "water", tween);
+          setFlipped(x, y, false);
         }
       }
     }
   }
 
+  private Color[] createWaterColors(Color lightColor, Color darkColor) {
+    Color[] waterColors = new Color[4];
+
+    for (int i = 0; i < waterColors.length; i++) {
+      waterColors[i] = lightColor.cpy();
+      palette.animatedColor(waterColors[i]);
+
+      waterTweens.add(
+          Tween.to(waterColors[i], ColorAccessor.COLOR, .5f).target(
+              darkColor.r, darkColor.g, darkColor.b
+          ).delay(MathUtils.random()).repeatYoyo(Tween.INFINITY, MathUtils.random())
+      );
+    }
+
+    return waterColors;
+  }
+
   // Find the largest section of water with land on both sides
   // Connect it with a bridge
   private void createBridge() {
-    Sprite bridge = Main.asciiAtlas.createSprite("0302");
     Vector2 start = null;
     int length = 0;
 
-    for (int x = 0; x < map.length; x++) {
-      for (int y = 0; y < map[x].length; y++) {
-        MapCell cell = map[x][y];
-
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
         // Found water tile, go up until no more water.
         // Store start position and the length.
-        if (cell.isWater()) {
+        if (isWater(x, y)) {
           int count = 0;
 
-          while (map[x][y + count].isWater()) {
+          while (y + count < height && isWater(x, y + count)) {
             count++;
           }
 
@@ -224,26 +264,281 @@ public class Map {
 
     if (start != null) {
       for (int y = 0; y < length; y++) {
-        makeCellBridge(map[(int) start.x][(int) start.y + y], bridge);
+        setCell(
+            (int) start.x, (int) start.y + y, MapCell.Type.FLOOR, "0302",
+            Colors.get("bridge"), "a bridge"
+        );
       }
     }
   }
 
-  private void makeCellBridge(MapCell cell, Sprite bridge) {
-    cell.sprite.setRegion(
-        bridge.getRegionX(), bridge.getRegionY(),
-        bridge.getRegionWidth(), bridge.getRegionHeight()
-    );
+  /**
+   * Start the water animating, does nothing if it already is.
+   */
+  public void animate() {
+    for (Tween tween : waterTweens) {
+      if (!tween.isStarted()) {
+        tween.start(Main.tweenManager);
+      }
+    }
+  }
+
+  private void setCell(int cellX, int cellY, MapCell.Type type, String glyph, Color color,
+                       String description) {
+    setType(cellX, cellY, type);
+    setGlyph(cellX, cellY, glyph);
+    setColor(cellX, cellY, color);
+    setDescription(cellX, cellY, description);
+  }
+
+  private int index(int cellX, int cellY) {
+    return cellX * height + cellY;
+  }
+
+  public MapCell.Type getType(int cellX, int cellY) {
+    return MapCell.TYPES[types[index(cellX, cellY)]];
+  }
+
+  public void setType(int cellX, int cellY, MapCell.Type type) {
+    int index = index(cellX, cellY);
+
+    if (types[index] != (byte) type.ordinal()) {
+      types[index] = (byte) type.ordinal();
+      typesVersion += 1;
+    }
+
+    boolean isOpaque = (MapCell.OPAQUE & (1 << type.ordinal())) != 0;
+
+    if (isOpaque != opaque.get(index)) {
+      if (isOpaque) {
+        opaque.set(index);
+      } else {
+        opaque.clear(index);
+      }
+
+      sight.update();
+      opacityVersion = ++opacityVersions;
+    }
+
+    navigation.update(cellX, cellY);
+  }
+
+  /**
+   * Whether or not a cell blocks sight (and light, and sound).
+   *
+   * @param cellX x of the cell
+   * @param cellY y of the cell
+   * @return If it does
+   */
+  public boolean isOpaque(int cellX, int cellY) {
+    return opaque.get(index(cellX, cellY));
+  }
+
+  /**
+   * Changes whenever a cell on this map starts or stops blocking sight, for anything that wants
+   * to hold on to a field of view until it might be different. No two maps share a version.
+   *
+   * @return The version
+   */
+  public int getOpacityVersion() {
+    return opacityVersion;
+  }
+
+  /**
+   * Changes whenever any cell on this map changes type.
+   *
+   * @return The version
+   */
+  int getTypesVersion() {
+    return typesVersion;
+  }
+
+  /**
+   * A copy of every cell's type, for reading on other threads while this map keeps changing.
+   * Check a type in it with MapCell.isOneOf.
+   *
+   * @return The copy, indexed by x * height + y
+   */
+  byte[] copyTypes() {
+    return types.clone();
+  }
+
+  boolean isOneOf(int cellX, int cellY, int typeMask) {
+    return MapCell.isOneOf(types[index(cellX, cellY)], typeMask);
+  }
+
+  public boolean isNothing(int cellX, int cellY) {
+    return getType(cellX, cellY) == MapCell.Type.NOTHING;
+  }
+
+  public boolean isFloor(int cellX, int cellY) {
+    return getType(cellX, cellY) == MapCell.Type.FLOOR;
+  }
+
+  public boolean isWall(int cellX, int cellY) {
+    return getType(cellX, cellY) == MapCell.Type.WALL;
+  }
+
+  public boolean isWater(int cellX, int cellY) {
+    MapCell.Type type = getType(cellX, cellY);
+
+    return type == MapCell.Type.SHALLOW_WATER || type == MapCell.Type.DEEP_WATER;
+  }
+
+  public boolean isDeepWater(int cellX, int cellY) {
+    return getType(cellX, cellY) == MapCell.Type.DEEP_WATER;
+  }
+
+  public MapCell.Covered getCovered(int cellX, int cellY) {
+    return MapCell.COVERINGS[coverings[index(cellX, cellY)]];
+  }
+
+  public void setCovered(int cellX, int cellY, MapCell.Covered covered) {
+    coverings[index(cellX, cellY)] = (byte) covered.ordinal();
+  }
+
+  public boolean hasBlood(int cellX, int cellY) {
+    return getCovered(cellX, cellY) == MapCell.Covered.BLOOD;
+  }
+
+  public boolean isHidden(int cellX, int cellY) {
+    return !explored.get(index(cellX, cellY));
+  }
 
-    cell.sprite.setColor(Colors.get("bridge"));
-    cell.type = MapCell.Type.FLOOR;
-    cell.description = "a bridge";
+  public boolean isForgotten(int cellX, int cellY) {
+    int index = index(cellX, cellY);
 
-    cell.tween.kill();
+    return explored.get(index) && !seen.get(index);
   }
 
-  public MapCell[][] getCellMap() {
-    return map;
+  public boolean isSeen(int cellX, int cellY) {
+    return seen.get(index(cellX, cellY));
+  }
+
+  /**
+   * Take in what the player sees now. Cells that get seen for the first time (seen and
+   * not explored) are revealed, and cells that were seen but aren't anymore (explored and not
+   * seen) are forgotten. Both get worked out a word of cells at a time, then only the cells that
+   * actually changed get looked at.
+   *
+   * @param vision What the player can see
+   */
+  public void sense(FovWindow vision) {
+    // Whatever was seen before, so we can tell what stopped being seen
+    changed.clear();
+    changed.or(seen);
+
+    fill(seen, vision);
+
+    // Seen or not seen anymore, either way it looks different now
+    changed.xor(seen);
+
+    for (int index = changed.nextSetBit(0); index != -1; index = changed.nextSetBit(index + 1)) {
+      chunks.markDirty(index / height, index % height);
+    }
+
+    // Newly revealed, walkable flags depend on cells being revealed
+    changed.clear();
+    changed.or(seen);
+    changed.andNot(explored);
+
+    explored.or(seen);
+
+    for (int index = changed.nextSetBit(0); index != -1; index = changed.nextSetBit(index + 1)) {
+      navigation.update(index / height, index % height);
+    }
+  }
+
+  private void fill(Bits layer, FovWindow window) {
+    layer.clear();
+
+    for (int x = window.getMinX(); x <= window.getMaxX(); x++) {
+      for (int y = window.getMinY(); y <= window.getMaxY(); y++) {
+        if (window.get(x, y) > 0) {
+          layer.set(index(x, y));
+        }
+      }
+    }
+  }
+
+  public boolean isOnFire(int cellX, int cellY) {
+    return hasFlag(cellX, cellY, MapCell.ON_FIRE);
+  }
+
+  public void setOnFire(int cellX, int cellY, boolean onFire) {
+    setFlag(cellX, cellY, MapCell.ON_FIRE, onFire);
+  }
+
+  public boolean isFlipped(int cellX, int cellY) {
+    return hasFlag(cellX, cellY, MapCell.FLIPPED);
+  }
+
+  public void setFlipped(int cellX, int cellY, boolean flipped) {
+    setFlag(cellX, cellY, MapCell.FLIPPED, flipped);
+  }
+
+  public TextureRegion getGlyph(int cellX, int cellY) {
+    return MapCell.getGlyph(glyphs[index(cellX, cellY)]);
+  }
+
+  public void setGlyph(int cellX, int cellY, String glyph) {
+    short index = MapCell.glyph(glyph);
+
+    if (glyphs[index(cellX, cellY)] != index) {
+      glyphs[index(cellX, cellY)] = index;
+      chunks.markDirty(cellX, cellY);
+    }
+  }
+
+  public Color getColor(int cellX, int cellY) {
+    return palette.getColor(colors[index(cellX, cellY)]);
+  }
+
+  public void setColor(int cellX, int cellY, Color color) {
+    short index = palette.color(color);
+
+    if (colors[index(cellX, cellY)] != index) {
+      colors[index(cellX, cellY)] = index;
+      chunks.markDirty(cellX, cellY);
+    }
+  }
+
+  /**
+   * Whether or not the color of a cell keeps changing (like water).
+   *
+   * @param cellX x of the cell
+   * @param cellY y of the cell
+   * @return If it does
+   */
+  public boolean isAnimated(int cellX, int cellY) {
+    return palette.isAnimated(colors[index(cellX, cellY)]);
+  }
+
+  public String getDescription(int cellX, int cellY) {
+    return MapCell.getDescription(descriptions[index(cellX, cellY)]);
+  }
+
+  public void setDescription(int cellX, int cellY, String description) {
+    descriptions[index(cellX, cellY)] = MapCell.description(description);
+  }
+
+  private boolean hasFlag(int cellX, int cellY, byte flag) {
+    return (flags[index(cellX, cellY)] & flag) != 0;
+  }
+
+  private void setFlag(int cellX, int cellY, byte flag, boolean on) {
+    int index = index(cellX, cellY);
+    byte before = flags[index];
+
+    if (on) {
+      flags[index] |= flag;
+    } else {
+      flags[index] &= ~flag;
+    }
+
+    if (flags[index] != before) {
+      chunks.markDirty(cellX, cellY);
+    }
   }
 
   private int getGroundNeighbours(int cellX, int cellY) {
@@ -1,59 +1,107 @@
 package me.dannytatom.xibalba.world;
 
-import aurelienribon.tweenengine.Tween;
-import com.badlogic.gdx.graphics.g2d.Sprite;
-
-public class MapCell {
-  public final Sprite sprite;
-  public Tween tween;
-  public String description;
-  public Type type;
-  public Covered covered;
-  public boolean hidden = true;
-  public boolean forgotten = false;
-  public boolean onFire = false;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import me.dannytatom.xibalba.Main;
+
+/**
+ * Cell data lives in packed layers on Map, this just holds the types cells can be and the tables
+ * glyphs and descriptions get looked up in. Colors are per map, see MapPalette.
+ */
+public final class MapCell {
+  static final byte ON_FIRE = 1;
+  static final byte FLIPPED = 1 << 1;
+
+  static final Type[] TYPES = Type.values();
+  static final int OPAQUE = mask(Type.NOTHING, Type.WALL);
+  static final Covered[] COVERINGS = Covered.values();
+
+  private static final Array<String> glyphNames = new Array<>();
+  private static final Array<TextureRegion> glyphs = new Array<>();
+  private static final Array<String> descriptions = new Array<>();
+
+  private MapCell() {
+
+  }
 
   /**
-   * Holds world cell data.
+   * Build a bitmask out of a set of types, for checking a cell against a bunch of types at once.
    *
-   * @param sprite      tile sprite
-   * @param type        whether or not an entity can move onto this cell
-   * @param description what this cell like?
+   * @param types Types to include
+   * @return The mask
    */
-  MapCell(Sprite sprite, Type type, String description, Tween tween) {
-    this.sprite = sprite;
-    this.type = type;
-    this.covered = Covered.NOTHING;
-    this.description = description;
-    this.tween = tween;
-  }
+  static int mask(Type... types) {
+    int mask = 0;
 
-  MapCell(Sprite sprite, Type type, String description) {
-    this(sprite, type, description, null);
-  }
+    for (Type type : types) {
+      mask |= 1 << type.ordinal();
+    }
 
-  public boolean isNothing() {
-    return type == Type.NOTHING;
+    return mask;
   }
 
-  public boolean isFloor() {
-    return type == Type.FLOOR;
+  /**
+   * Whether or not a type is one of the types in a mask.
+   *
+   * @param type     Type ordinal, as it's stored in a types layer
+   * @param typeMask Mask of types, see mask
+   * @return If it is
+   */
+  static boolean isOneOf(byte type, int typeMask) {
+    return (typeMask & (1 << type)) != 0;
   }
 
-  public boolean isWall() {
-    return type == Type.WALL;
+  /**
+   * Find (or add) a glyph in the glyph table.
+   *
+   * @param name Name of the region in the ascii atlas
+   * @return Index into the glyph table
+   */
+  static short glyph(String name) {
+    int index = glyphNames.indexOf(name, false);
+
+    if (index == -1) {
+      if (glyphNames.size > Short.MAX_VALUE) {
+        throw new GdxRuntimeException("Too many glyphs");
+      }
+
+      glyphNames.add(name);
+      glyphs.add(Main.asciiAtlas.findRegion(name));
+      index = glyphNames.size - 1;
+    }
+
+    return (short) index;
   }
 
-  public boolean isWater() {
-    return type == Type.SHALLOW_WATER || type == Type.DEEP_WATER;
+  static TextureRegion getGlyph(int index) {
+    return glyphs.get(index);
   }
 
-  public boolean isDeepWater() {
-    return type == Type.DEEP_WATER;
+  /**
+   * Find (or add) a description in the description table.
+   *
+   * @param description What this cell is like
+   * @return Index into the description table
+   */
+  static short description(String description) {
+    int index = descriptions.indexOf(description, false);
+
+    if (index == -1) {
+      if (descriptions.size > Short.MAX_VALUE) {
+        throw new GdxRuntimeException("Too many descriptions");
+      }
+
+      descriptions.add(description);
+      index = descriptions.size - 1;
+    }
+
+    return (short) index;
   }
 
-  public boolean hasBlood() {
-    return covered == Covered.BLOOD;
+  static String getDescription(int index) {
+    return descriptions.get(index);
   }
 
   public enum Type {
@@ -0,0 +1,52 @@
+package me.dannytatom.xibalba.world;
+
+import java.util.Arrays;
+
+/**
+ * Splits a map into square chunks and keeps track of which ones have changed, so whatever gets
+ * built out of a chunk (like the cached tile layer) only has to be rebuilt when something in it
+ * actually changed.
+ */
+public class MapChunks {
+  public static final int SIZE = 16;
+
+  public final int columns;
+  public final int rows;
+  private final boolean[] dirty;
+
+  /**
+   * Chunks for a map, they all start out dirty.
+   *
+   * @param width  Map width
+   * @param height Map height
+   */
+  MapChunks(int width, int height) {
+    this.columns = (width + SIZE - 1) / SIZE;
+    this.rows = (height + SIZE - 1) / SIZE;
+    this.dirty = new boolean[columns * rows];
+
+    markAllDirty();
+  }
+
+  /**
+   * Mark the chunk a cell is in as changed.
+   *
+   * @param cellX x of the cell
+   * @param cellY y of the cell
+   */
+  void markDirty(int cellX, int cellY) {
+    dirty[(cellX / SIZE) * rows + cellY / SIZE] = true;
+  }
+
+  void markAllDirty() {
+    Arrays.fill(dirty, true);
+  }
+
+  public boolean isDirty(int chunkX, int chunkY) {
+    return dirty[chunkX * rows + chunkY];
+  }
+
+  public void markClean(int chunkX, int chunkY) {
+    dirty[chunkX * rows + chunkY] = false;
+  }
+}
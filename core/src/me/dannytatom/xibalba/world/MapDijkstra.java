@@ -4,19 +4,63 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import me.dannytatom.xibalba.utils.ComponentMappers;
 
 public class MapDijkstra {
-  private final Dijkstra[] wanderLand = new Dijkstra[5];
-  private final Dijkstra[] wanderWater = new Dijkstra[3];
+  private static final int LAND = MapCell.mask(MapCell.Type.FLOOR, MapCell.Type.SHALLOW_WATER);
+  private static final int WATER = MapCell.mask(
+      MapCell.Type.DEEP_WATER, MapCell.Type.SHALLOW_WATER
+  );
+  private static final int DEEP_WATER = MapCell.mask(MapCell.Type.DEEP_WATER);
+
+  // Shared by every map, dijkstra maps get built on these instead of the render thread
+  private static final ExecutorService workers = Executors.newFixedThreadPool(
+      Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+        Thread thread = new Thread(runnable, "Dijkstra");
+        thread.setDaemon(true);
+
+        return thread;
+      }
+  );
+
+  private final Background[] wanderLand = new Background[5];
+  private final Background[] wanderWater = new Background[3];
   private final Map map;
+  private final Background targetPlayerLand;
+  private final Background targetPlayerWater;
+  private final Background playerExplore;
   public Array<Vector2> exploreGoals;
-  private Dijkstra targetPlayerLand;
-  private Dijkstra targetPlayerWater;
-  private Dijkstra playerExplore;
+  private int exploreGeneration;
+
+  // Copy of the map's cell types handed to the workers, only copied again once they change
+  private byte[] types;
+  private int typesVersion;
 
+  /**
+   * Holds all the dijkstra maps for a level. They're all built in the background, on a copy of
+   * the map's cell types taken when they're asked for, and the find methods use whatever was
+   * finished last, so they return false until the first build is done.
+   *
+   * @param map The level map
+   */
   public MapDijkstra(Map map) {
     this.map = map;
+
+    for (int i = 0; i < wanderLand.length; i++) {
+      wanderLand[i] = new Background(map, LAND, false);
+    }
+
+    for (int i = 0; i < wanderWater.length; i++) {
+      wanderWater[i] = new Background(map, DEEP_WATER, false);
+    }
+
+    targetPlayerLand = new Background(map, LAND, true);
+    targetPlayerWater = new Background(map, WATER, false);
+    playerExplore = new Background(map, LAND, false);
+    exploreGoals = new Array<>();
   }
 
   /**
@@ -25,7 +69,7 @@ public class MapDijkstra {
   public void updateAll() {
     updateWanderLand();
     updateWanderWater();
-    updateTargetPlayerLand();
+    targetPlayerLand.request(types(), playerGoal(), true);
     updateTargetPlayerWater();
     updatePlayerExplore();
   }
@@ -34,15 +78,11 @@ public class MapDijkstra {
    * Update wanderLand map.
    */
   private void updateWanderLand() {
-    for (int i = 0; i < wanderLand.length; i++) {
+    for (Background background : wanderLand) {
       Array<Vector2> goal = new Array<>();
       goal.add(WorldManager.mapHelpers.getRandomOpenPositionOnLand(map.depth));
 
-      MapCell.Type[] walkableTypes = new MapCell.Type[2];
-      walkableTypes[0] = MapCell.Type.FLOOR;
-      walkableTypes[1] = MapCell.Type.SHALLOW_WATER;
-
-      wanderLand[i] = new Dijkstra(map, walkableTypes, goal);
+      background.request(types(), goal, true);
     }
   }
 
@@ -50,10 +90,11 @@ public class MapDijkstra {
    * Find a wandering path on land.
    *
    * @param start Starting position
-   * @return A path
+   * @param path  Where to put the path
+   * @return False if the map isn't ready yet, path is left alone then
    */
-  public Array<Vector2> findWanderLandPath(Vector2 start) {
-    return wanderLand[MathUtils.random(0, wanderLand.length - 1)].findPath(start);
+  public boolean findWanderLandPath(Vector2 start, Path path) {
+    return wanderLand[MathUtils.random(0, wanderLand.length - 1)].findPath(start, path, 0);
   }
 
   /**
@@ -61,14 +102,11 @@ public class MapDijkstra {
    */
   private void updateWanderWater() {
     if (map.hasWater) {
-      for (int i = 0; i < wanderWater.length; i++) {
+      for (Background background : wanderWater) {
         Array<Vector2> goal = new Array<>();
         goal.add(WorldManager.mapHelpers.getRandomOpenPositionInWater(map.depth));
 
-        MapCell.Type[] walkableTypes = new MapCell.Type[2];
-        walkableTypes[1] = MapCell.Type.DEEP_WATER;
-
-        wanderWater[i] = new Dijkstra(map, walkableTypes, goal);
+        background.request(types(), goal, true);
       }
     }
   }
@@ -77,56 +115,47 @@ public class MapDijkstra {
    * Find a wandering path in water.
    *
    * @param start Starting position
-   * @return A path
+   * @param path  Where to put the path
+   * @return False if there's no water or the map isn't ready yet, path is left alone then
    */
-  public Array<Vector2> findWanderWaterPath(Vector2 start) {
-    if (map.hasWater) {
-      return wanderWater[MathUtils.random(0, wanderWater.length - 1)].findPath(start);
-    } else {
-      return null;
-    }
+  public boolean findWanderWaterPath(Vector2 start, Path path) {
+    return map.hasWater
+        && wanderWater[MathUtils.random(0, wanderWater.length - 1)].findPath(start, path, 0);
   }
 
-  public Array<Vector2> findExplorePath(Vector2 start) {
-    return playerExplore.findPath(start);
+  /**
+   * Find a path to the nearest unexplored cell, on the explore map from the last
+   * updatePlayerExplore. An older one could send the player somewhere they've already been.
+   *
+   * @param start Starting position
+   * @param path  Where to put the path
+   * @return False if that map isn't ready yet, path is left alone then
+   */
+  public boolean findExplorePath(Vector2 start, Path path) {
+    return playerExplore.findPath(start, path, exploreGeneration);
   }
 
   /**
-   * Update targetPlayerLand map.
+   * Update targetPlayerLand map. If the player only moved a step since last time we just repair
+   * the map around them, otherwise it gets rebuilt.
    */
   public void updateTargetPlayerLand() {
-    Vector2 position = ComponentMappers.position.get(WorldManager.player).pos;
-    Array<Vector2> goals = new Array<>();
-    goals.add(position);
-
-    MapCell.Type[] walkableTypes = new MapCell.Type[2];
-    walkableTypes[0] = MapCell.Type.FLOOR;
-    walkableTypes[1] = MapCell.Type.SHALLOW_WATER;
-
-    targetPlayerLand = new Dijkstra(map, walkableTypes, goals);
+    targetPlayerLand.request(types(), playerGoal(), false);
   }
 
-  public Array<Vector2> findTargetPlayerLandPath(Vector2 start) {
-    return targetPlayerLand.findPath(start);
+  public boolean findTargetPlayerLandPath(Vector2 start, Path path) {
+    return targetPlayerLand.findPath(start, path, 0);
   }
 
   /**
    * Update targetPlayerWater map.
    */
   private void updateTargetPlayerWater() {
-    Vector2 position = ComponentMappers.position.get(WorldManager.player).pos;
-    Array<Vector2> goals = new Array<>();
-    goals.add(position);
-
-    MapCell.Type[] walkableTypes = new MapCell.Type[2];
-    walkableTypes[0] = MapCell.Type.DEEP_WATER;
-    walkableTypes[1] = MapCell.Type.SHALLOW_WATER;
-
-    targetPlayerWater = new Dijkstra(map, walkableTypes, goals);
+    targetPlayerWater.request(types(), playerGoal(), true);
   }
 
-  public Array<Vector2> findTargetPlayerWaterPath(Vector2 start) {
-    return targetPlayerWater.findPath(start);
+  public boolean findTargetPlayerWaterPath(Vector2 start, Path path) {
+    return targetPlayerWater.findPath(start, path, 0);
   }
 
   /**
@@ -137,16 +166,185 @@ public class MapDijkstra {
 
     for (int x = 0; x < map.width; x++) {
       for (int y = 0; y < map.height; y++) {
-        if (map.getCellMap()[x][y].hidden && map.getCellMap()[x][y].isFloor()) {
+        if (map.isHidden(x, y) && map.isFloor(x, y)) {
           exploreGoals.add(new Vector2(x, y));
         }
       }
     }
 
-    MapCell.Type[] walkableTypes = new MapCell.Type[2];
-    walkableTypes[0] = MapCell.Type.FLOOR;
-    walkableTypes[1] = MapCell.Type.SHALLOW_WATER;
+    exploreGeneration = playerExplore.request(types(), new Array<>(exploreGoals), true);
+  }
+
+  private byte[] types() {
+    if (types == null || typesVersion != map.getTypesVersion()) {
+      types = map.copyTypes();
+      typesVersion = map.getTypesVersion();
+    }
+
+    return types;
+  }
+
+  // Goals get handed to another thread, so they need to be copies
+  private Array<Vector2> playerGoal() {
+    Array<Vector2> goals = new Array<>();
+    goals.add(ComponentMappers.position.get(WorldManager.player).pos.cpy());
+
+    return goals;
+  }
+
+  /**
+   * A single dijkstra map that gets built on the workers.
+   *
+   * <p>Requests pile up while a build is running and only the newest one gets built next, so
+   * there's never more than one build going for the same map. There are two buffers, one that's
+   * published and gets read, and a spare that gets built into and then published in its place.
+   * Paths only get found on the main thread, and it never waits on a worker.
+   */
+  private static class Background {
+    private final int width;
+    private final int height;
+    private final int walkableTypes;
+    private final boolean repairable;
+    private volatile Dijkstra published;
+    // Whichever buffer the main thread is finding a path on, workers won't build into it
+    private volatile Dijkstra reading;
+
+    // Only touched by whichever worker is building, made on the first build
+    private Dijkstra first;
+    private Dijkstra second;
+
+    // Guarded by this
+    private byte[] pendingTypes;
+    private Array<Vector2> pendingGoals;
+    private boolean pendingRebuild;
+    private int requested;
+    private boolean building;
+
+    Background(Map map, int walkableTypes, boolean repairable) {
+      this.width = map.width;
+      this.height = map.height;
+      this.walkableTypes = walkableTypes;
+      this.repairable = repairable;
+    }
+
+    /**
+     * Ask for this map to be built for a new set of goals.
+     *
+     * @param types   Cell types to build on, these are kept so don't change them afterwards
+     * @param goals   Goals, these are kept so don't change them afterwards
+     * @param rebuild Build from scratch even if we could just repair it
+     * @return Which request this is, see findPath
+     */
+    synchronized int request(byte[] types, Array<Vector2> goals, boolean rebuild) {
+      pendingTypes = types;
+      pendingGoals = goals;
+      pendingRebuild |= rebuild;
+      requested += 1;
+
+      if (!building) {
+        building = true;
+        workers.execute(this::build);
+      }
+
+      return requested;
+    }
+
+    /**
+     * Find a path on whatever was published last.
+     *
+     * @param start      Starting position
+     * @param path       Where to put the path
+     * @param generation Oldest request we'll take a path from
+     * @return False if nothing that new has been published yet, path is left alone then
+     */
+    boolean findPath(Vector2 start, Path path, int generation) {
+      Dijkstra dijkstra = published;
+
+      if (dijkstra == null) {
+        return false;
+      }
+
+      // Say we're reading it, then check it's still published. If it isn't, a worker could
+      // already be building into it, so rather than wait we act like it isn't ready.
+      reading = dijkstra;
+
+      try {
+        if (published != dijkstra || dijkstra.generation < generation) {
+          return false;
+        }
+
+        dijkstra.findPath(start, path);
+      } finally {
+        reading = null;
+      }
+
+      return true;
+    }
+
+    private void build() {
+      while (true) {
+        byte[] types;
+        Array<Vector2> goals;
+        boolean rebuild;
+        int generation;
+
+        synchronized (this) {
+          if (pendingGoals == null) {
+            building = false;
+
+            return;
+          }
+
+          types = pendingTypes;
+          goals = pendingGoals;
+          rebuild = pendingRebuild;
+          generation = requested;
+          pendingTypes = null;
+          pendingGoals = null;
+          pendingRebuild = false;
+        }
+
+        try {
+          Dijkstra spare = spare();
+
+          // It was published until just now, so the main thread might still be finishing a path
+          while (reading == spare) {
+            Thread.yield();
+          }
+
+          if (!repairable || rebuild || !repair(spare, types, goals.first())) {
+            spare.build(types, goals);
+          }
+
+          spare.generation = generation;
+          published = spare;
+        } catch (RuntimeException exception) {
+          synchronized (this) {
+            building = false;
+          }
+
+          throw exception;
+        }
+      }
+    }
+
+    private Dijkstra spare() {
+      if (first == null) {
+        first = new Dijkstra(width, height, walkableTypes);
+        second = new Dijkstra(width, height, walkableTypes);
+      }
+
+      return published == first ? second : first;
+    }
 
-    playerExplore = new Dijkstra(map, walkableTypes, exploreGoals);
+    // Single goal maps can be repaired when the goal only moved a step. The spare is a build
+    // behind, so it has to catch up on the published map's move before making the new one.
+    private boolean repair(Dijkstra spare, byte[] types, Vector2 goal) {
+      Dijkstra current = published;
+
+      return current != null && current.isBuiltOn(types) && spare.isBuiltOn(types)
+          && current.getGoal() != null && spare.moveGoal(current.getGoal())
+          && spare.moveGoal(goal);
+    }
   }
 }
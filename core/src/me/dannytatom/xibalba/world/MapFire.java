@@ -3,14 +3,13 @@ package me.dannytatom.xibalba.world;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Colors;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
+import com.badlogic.gdx.utils.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 
-import me.dannytatom.xibalba.Main;
 import me.dannytatom.xibalba.components.LightComponent;
 import me.dannytatom.xibalba.components.PositionComponent;
 
@@ -65,16 +64,12 @@ public class MapFire {
       for (int x = 0; x < flooded.length; x++) {
         for (int y = 0; y < flooded[0].length; y++) {
           if (flooded[x][y] == MapCell.Type.FLOOR) {
-            MapCell cell = map.getCellMap()[x][y];
-            cell.description = "fire";
+            map.setDescription(x, y, "fire");
+            map.setGlyph(x, y, MathUtils.random() > 0.5 ? "1405" : "1407");
+            map.setColor(x, y, Colors.get("fire-" + MathUtils.random(1, 3)));
+            map.setFlipped(x, y, false);
 
-            String spriteKey = MathUtils.random() > 0.5 ? "1405" : "1407";
-            Sprite sprite = Main.asciiAtlas.createSprite(spriteKey);
-            sprite.setColor(Colors.get("fire-" + MathUtils.random(1, 3)));
-            cell.sprite.set(sprite);
-            cell.sprite.setPosition(x * Main.SPRITE_WIDTH, y * Main.SPRITE_HEIGHT);
-
-            if (!cell.onFire) {
+            if (!map.isOnFire(x, y)) {
               ArrayList<Color> fireColors = new ArrayList<>();
               fireColors.add(Colors.get("fire-1"));
               fireColors.add(Colors.get("fire-2"));
@@ -86,9 +81,18 @@ public class MapFire {
               );
               fireLight.add(new PositionComponent(x, y));
               WorldManager.world.addEntity(fireLight);
-            }
 
-            cell.onFire = true;
+              map.setOnFire(x, y, true);
+
+              // Fire coming to them is the same as them walking into it
+              if (map == WorldManager.world.getCurrentMap()) {
+                Array<Entity> entities = map.spatialIndex.get(x, y);
+
+                for (int i = 0; i < entities.size; i++) {
+                  WorldManager.enteredCell.dispatch(entities.get(i));
+                }
+              }
+            }
           }
         }
       }
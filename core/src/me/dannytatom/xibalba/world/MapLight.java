@@ -16,8 +16,28 @@ public class MapLight {
   private final int mapIndex;
   private final ShadowCaster caster;
   private final Family family;
-  public float[][] lightMap;
-  public Color[][] colorMap;
+  private final int height;
+
+  // How much light every cell gets, and how much of each color, added up over every light that
+  // reaches it. Cleared and filled in again every update.
+  private final float[] brightness;
+  private final float[] red;
+  private final float[] green;
+  private final float[] blue;
+
+  // What got lit last update, so that's all that needs clearing
+  private int litMinX;
+  private int litMinY;
+  private int litMaxX;
+  private int litMaxY;
+
+  // Cells on screen, lights that can't reach them (or the player's vision) get skipped
+  private int viewMinX;
+  private int viewMinY;
+  private int viewMaxX;
+  private int viewMaxY;
+
+  private boolean hasLights = false;
   private float counter = 0;
 
   /**
@@ -31,19 +51,77 @@ public class MapLight {
     this.family = Family.all(LightComponent.class, PositionComponent.class).get();
 
     Map map = WorldManager.world.getMap(mapIndex);
-    this.lightMap = new float[map.width][map.height];
-    for (float[] row : lightMap) {
-      Arrays.fill(row, 0f);
-    }
+    this.height = map.height;
+    this.brightness = new float[map.width * map.height];
+    this.red = new float[map.width * map.height];
+    this.green = new float[map.width * map.height];
+    this.blue = new float[map.width * map.height];
 
-    this.colorMap = new Color[map.width][map.height];
-    for (Color[] row : colorMap) {
-      Arrays.fill(row, Color.BLACK);
-    }
+    this.litMinX = 0;
+    this.litMinY = 0;
+    this.litMaxX = -1;
+    this.litMaxY = -1;
+
+    this.viewMinX = 0;
+    this.viewMinY = 0;
+    this.viewMaxX = map.width - 1;
+    this.viewMaxY = map.height - 1;
   }
 
+  /**
+   * Whether or not anything got lit last update.
+   *
+   * @return Yes/no
+   */
   public boolean hasLights() {
-    return WorldManager.engine.getEntitiesFor(family).size() > 0;
+    return hasLights;
+  }
+
+  /**
+   * Set which cells are on screen (inclusive), called by the renderer.
+   *
+   * @param minX Left edge
+   * @param minY Bottom edge
+   * @param maxX Right edge
+   * @param maxY Top edge
+   */
+  public void setView(int minX, int minY, int maxX, int maxY) {
+    viewMinX = minX;
+    viewMinY = minY;
+    viewMaxX = maxX;
+    viewMaxY = maxY;
+  }
+
+  /**
+   * How much light reaches a cell.
+   *
+   * @param cellX x of the cell
+   * @param cellY y of the cell
+   * @return Every light's brightness there, added up
+   */
+  public float getLight(int cellX, int cellY) {
+    return brightness[cellX * height + cellY];
+  }
+
+  /**
+   * What color the light reaching a cell is, every light that reaches it mixed by how bright it
+   * is there.
+   *
+   * @param cellX x of the cell
+   * @param cellY y of the cell
+   * @param color Where to put the color
+   * @return The color passed in
+   */
+  public Color getColor(int cellX, int cellY, Color color) {
+    int index = cellX * height + cellY;
+
+    if (brightness[index] <= 0) {
+      return color.set(Color.BLACK);
+    }
+
+    float scale = 1 / brightness[index];
+
+    return color.set(red[index] * scale, green[index] * scale, blue[index] * scale, 1);
   }
 
   /**
@@ -54,10 +132,12 @@ public class MapLight {
   public void update(float delta) {
     counter += delta;
 
-    float[][] fovMap = WorldManager.mapHelpers.createFovMapFor(mapIndex);
-    ImmutableArray<Entity> lightSources = WorldManager.engine.getEntitiesFor(family);
-
     if (counter >= .10f) {
+      Map map = WorldManager.world.getMap(mapIndex);
+      ImmutableArray<Entity> lightSources = WorldManager.engine.getEntitiesFor(family);
+
+      clear();
+
       for (Entity lightSource : lightSources) {
         LightComponent light = ComponentMappers.light.get(lightSource);
         PositionComponent position = ComponentMappers.position.get(lightSource);
@@ -70,27 +150,116 @@ public class MapLight {
           }
         }
 
+        int cellX = (int) position.pos.x;
+        int cellY = (int) position.pos.y;
+
+        // Flickering lights get cast as far as they could ever reach, then shrunk
+        float reach = light.flickers ? light.radius + 1 : light.radius;
+
+        if (!isRelevant(cellX, cellY, (int) reach)) {
+          continue;
+        }
+
+        if (light.footprintX != cellX || light.footprintY != cellY
+            || light.footprintVersion != map.getOpacityVersion()) {
+          caster.calculateFov(map, cellX, cellY, reach, light.footprint);
+
+          light.footprintX = cellX;
+          light.footprintY = cellY;
+          light.footprintVersion = map.getOpacityVersion();
+        }
+
         float radius = light.radius;
 
         if (light.flickers) {
           radius = MathUtils.random(light.radius - 1, light.radius + 1);
         }
 
-        float[][] map = caster.calculateFov(
-            fovMap, (int) position.pos.x, (int) position.pos.y, radius
-        );
+        Color color = light.colors.get(MathUtils.random(0, light.colors.size() - 1));
 
-        int colorIndex = MathUtils.random(0, light.colors.size() - 1);
+        add(light.footprint, reach, radius, color);
+      }
 
-        for (int x = 0; x < map.length; x++) {
-          for (int y = 0; y < map[x].length; y++) {
-            lightMap[x][y] += map[x][y];
-            colorMap[x][y] = light.colors.get(colorIndex);
-          }
+      counter = 0;
+    }
+  }
+
+  // Whether or not a light could reach anything on screen or anything the player can see
+  private boolean isRelevant(int cellX, int cellY, int reach) {
+    if (overlaps(cellX, cellY, reach, viewMinX, viewMinY, viewMaxX, viewMaxY)) {
+      return true;
+    }
+
+    FovWindow vision = ComponentMappers.player.get(WorldManager.player).visionMap;
+
+    return overlaps(
+        cellX, cellY, reach, vision.getMinX(), vision.getMinY(), vision.getMaxX(), vision.getMaxY()
+    );
+  }
+
+  private static boolean overlaps(int cellX, int cellY, int reach,
+                                  int minX, int minY, int maxX, int maxY) {
+    return cellX + reach >= minX && cellX - reach <= maxX
+        && cellY + reach >= minY && cellY - reach <= maxY;
+  }
+
+  private void add(FovWindow footprint, float reach, float radius, Color color) {
+    for (int x = footprint.getMinX(); x <= footprint.getMaxX(); x++) {
+      for (int y = footprint.getMinY(); y <= footprint.getMaxY(); y++) {
+        float bright = shrink(footprint.get(x, y), reach, radius);
+
+        if (bright <= 0) {
+          continue;
         }
+
+        int index = x * height + y;
+
+        brightness[index] += bright;
+        red[index] += color.r * bright;
+        green[index] += color.g * bright;
+        blue[index] += color.b * bright;
       }
+    }
 
-      counter = 0;
+    litMinX = Math.min(litMinX, footprint.getMinX());
+    litMinY = Math.min(litMinY, footprint.getMinY());
+    litMaxX = Math.max(litMaxX, footprint.getMaxX());
+    litMaxY = Math.max(litMaxY, footprint.getMaxY());
+
+    hasLights = true;
+  }
+
+  private void clear() {
+    for (int x = litMinX; x <= litMaxX; x++) {
+      int from = x * height + litMinY;
+      int to = x * height + litMaxY + 1;
+
+      Arrays.fill(brightness, from, to, 0);
+      Arrays.fill(red, from, to, 0);
+      Arrays.fill(green, from, to, 0);
+      Arrays.fill(blue, from, to, 0);
     }
+
+    litMinX = Integer.MAX_VALUE;
+    litMinY = Integer.MAX_VALUE;
+    litMaxX = -1;
+    litMaxY = -1;
+
+    hasLights = false;
+  }
+
+  // How lit a cell would be with a smaller radius than it was cast with. Brightness is
+  // 1 - distance / radius, so the distance can be worked back out of it. Walls further out than
+  // the smaller radius can't shadow anything inside it, so nothing else would be different.
+  private static float shrink(float bright, float reach, float radius) {
+    if (bright >= 1) {
+      return 1;
+    }
+
+    if (radius <= 0) {
+      return 0;
+    }
+
+    return Math.max(0, 1 - (1 - bright) * reach / radius);
   }
 }
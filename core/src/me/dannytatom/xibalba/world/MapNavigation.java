@@ -0,0 +1,146 @@
+package me.dannytatom.xibalba.world;
+
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.List;
+
+import org.xguzm.pathfinding.grid.GridCell;
+import org.xguzm.pathfinding.grid.NavigationGrid;
+import org.xguzm.pathfinding.grid.finders.AStarGridFinder;
+
+/**
+ * A* grid for the player's mouse look, targeting and click to move. The grid and finder get made
+ * the first time a path is asked for and then live as long as the map does, so levels nobody's
+ * looked around on don't hold a cell object for every cell. Walkable flags only get touched when a
+ * cell changes type or gets revealed, and paths are remembered until the turn ends or the map
+ * changes.
+ */
+public class MapNavigation {
+  private final Map map;
+  private final byte[] walkable;
+  private Grid grid;
+  private AStarGridFinder<GridCell> finder;
+  private final LongMap<List<GridCell>> paths;
+  private Mode mode;
+  private int pathsTurn = -1;
+
+  /**
+   * Navigation for a level.
+   *
+   * @param map The level map
+   */
+  MapNavigation(Map map) {
+    this.map = map;
+    this.walkable = new byte[map.width * map.height];
+    this.paths = new LongMap<>();
+  }
+
+  /**
+   * Work out which modes can walk through a cell, called by the map whenever a cell changes in a
+   * way that matters here.
+   *
+   * @param cellX x of the cell
+   * @param cellY y of the cell
+   */
+  void update(int cellX, int cellY) {
+    byte modes = 0;
+
+    if (!map.isHidden(cellX, cellY)) {
+      modes |= Mode.LOOKING.bit;
+
+      if (!map.isWall(cellX, cellY)) {
+        modes |= Mode.LOOKING_AROUND_WALLS.bit;
+
+        if (!map.isNothing(cellX, cellY)) {
+          modes |= Mode.TARGETING.bit;
+        }
+      }
+    }
+
+    int index = cellX * map.height + cellY;
+
+    if (walkable[index] != modes) {
+      walkable[index] = modes;
+      paths.clear();
+    }
+  }
+
+  /**
+   * Find a path, or get the one we found last time we were asked the same thing this turn.
+   *
+   * @param startX  x to start from
+   * @param startY  y to start from
+   * @param targetX x to go to
+   * @param targetY y to go to
+   * @param mode    What we're finding a path for
+   * @return The path (don't change it), or null if there isn't one
+   */
+  public List<GridCell> findPath(int startX, int startY, int targetX, int targetY, Mode mode) {
+    if (pathsTurn != WorldManager.turnCount) {
+      pathsTurn = WorldManager.turnCount;
+      paths.clear();
+    }
+
+    long key = (long) mode.ordinal() << 60
+        | (long) (startX & 0x7FFF) << 45
+        | (long) (startY & 0x7FFF) << 30
+        | (long) (targetX & 0x7FFF) << 15
+        | (long) (targetY & 0x7FFF);
+
+    if (paths.containsKey(key)) {
+      return paths.get(key);
+    }
+
+    if (grid == null) {
+      createGrid();
+    }
+
+    this.mode = mode;
+
+    List<GridCell> path = finder.findPath(startX, startY, targetX, targetY, grid);
+    paths.put(key, path);
+
+    return path;
+  }
+
+  private void createGrid() {
+    GridCell[][] cells = new GridCell[map.width][map.height];
+
+    for (int x = 0; x < map.width; x++) {
+      for (int y = 0; y < map.height; y++) {
+        cells[x][y] = new GridCell(x, y);
+      }
+    }
+
+    grid = new Grid(cells);
+    finder = new AStarGridFinder<>(GridCell.class);
+  }
+
+  public enum Mode {
+    // Throwing and such, can't go through walls or off the edge of the world
+    TARGETING(1),
+    // Looking around, but not through walls
+    LOOKING_AROUND_WALLS(1 << 1),
+    // Looking at anything we've seen
+    LOOKING(1 << 2);
+
+    private final int bit;
+
+    Mode(int bit) {
+      this.bit = bit;
+    }
+  }
+
+  // Walkability comes from the flags for whatever mode we're finding a path for,
+  // instead of from the cells themselves
+  private class Grid extends NavigationGrid<GridCell> {
+    Grid(GridCell[][] cells) {
+      super(cells, false);
+    }
+
+    @Override
+    public boolean isWalkable(int cellX, int cellY) {
+      return contains(cellX, cellY) && (walkable[cellX * map.height + cellY] & mode.bit) != 0;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package me.dannytatom.xibalba.world;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+
+/**
+ * The colors cells on one map get drawn in. It belongs to the map so the water colors a map
+ * makes for itself go away with it, rather than piling up level after level.
+ */
+class MapPalette {
+  private final Array<Color> colors;
+  private final IdentityMap<Color, Integer> indices;
+  private final Bits animated;
+
+  MapPalette() {
+    colors = new Array<>();
+    indices = new IdentityMap<>();
+    animated = new Bits();
+  }
+
+  /**
+   * Find (or add) a color. Colors are compared by identity, so animated colors (like water) can be
+   * shared by a bunch of cells and tweened in one place.
+   *
+   * @param color The color
+   * @return Index into the palette
+   */
+  short color(Color color) {
+    Integer index = indices.get(color);
+
+    if (index == null) {
+      if (colors.size > Short.MAX_VALUE) {
+        throw new GdxRuntimeException("Too many colors on one map");
+      }
+
+      index = colors.size;
+      colors.add(color);
+      indices.put(color, index);
+    }
+
+    return (short) (int) index;
+  }
+
+  Color getColor(int index) {
+    return colors.get(index);
+  }
+
+  /**
+   * Add a color that gets tweened, cells using it can't be drawn once and cached since it keeps
+   * changing.
+   *
+   * @param color The color
+   * @return Index into the palette
+   */
+  short animatedColor(Color color) {
+    short index = color(color);
+    animated.set(index);
+
+    return index;
+  }
+
+  boolean isAnimated(int index) {
+    return animated.get(index);
+  }
+}
@@ -0,0 +1,134 @@
+package me.dannytatom.xibalba.world;
+
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * Line of sight between two cells, for everyone who isn't the player (the player gets a whole
+ * field of view, see EntityHelpers.updateSenses). Lines are traced over the map's opacity layer
+ * from both ends, so if one cell can see another, the other can see it back. What's been traced
+ * is remembered until the turn ends or a cell's opacity changes.
+ */
+public class MapSight {
+  private final Map map;
+  private final LongMap<Boolean> lines;
+  private int linesTurn = -1;
+
+  /**
+   * Line of sight for a level.
+   *
+   * @param map The level map
+   */
+  MapSight(Map map) {
+    this.map = map;
+    this.lines = new LongMap<>();
+  }
+
+  /**
+   * Forget every line traced so far, called by the map whenever a cell's opacity changes.
+   */
+  void update() {
+    lines.clear();
+  }
+
+  /**
+   * Whether or not a cell can be seen (or heard) from another, same as a field of view with the
+   * given radius would say.
+   *
+   * @param fromX  x of who's looking
+   * @param fromY  y of who's looking
+   * @param toX    x of what they're looking at
+   * @param toY    y of what they're looking at
+   * @param radius How far they can see
+   * @return Yes/no
+   */
+  public boolean canSee(int fromX, int fromY, int toX, int toY, float radius) {
+    if (fromX == toX && fromY == toY) {
+      return true;
+    }
+
+    return distanceSquared(fromX, fromY, toX, toY) < radius * radius
+        && isClear(fromX, fromY, toX, toY);
+  }
+
+  /**
+   * Squared distance between two cells, for comparing against a radius without a sqrt.
+   *
+   * @param fromX x of the first cell
+   * @param fromY y of the first cell
+   * @param toX   x of the second cell
+   * @param toY   y of the second cell
+   * @return The distance, squared
+   */
+  public static int distanceSquared(int fromX, int fromY, int toX, int toY) {
+    int deltaX = toX - fromX;
+    int deltaY = toY - fromY;
+
+    return deltaX * deltaX + deltaY * deltaY;
+  }
+
+  /**
+   * Whether or not nothing blocks sight between two cells, however far apart they are. The cells
+   * themselves don't count.
+   *
+   * @param fromX x of the first cell
+   * @param fromY y of the first cell
+   * @param toX   x of the second cell
+   * @param toY   y of the second cell
+   * @return Yes/no
+   */
+  public boolean isClear(int fromX, int fromY, int toX, int toY) {
+    if (linesTurn != WorldManager.turnCount) {
+      linesTurn = WorldManager.turnCount;
+      lines.clear();
+    }
+
+    int from = fromX * map.height + fromY;
+    int to = toX * map.height + toY;
+
+    // Same line either way round
+    long key = from < to ? (long) from << 32 | to : (long) to << 32 | from;
+
+    Boolean clear = lines.get(key);
+
+    if (clear == null) {
+      clear = traces(fromX, fromY, toX, toY) || traces(toX, toY, fromX, fromY);
+      lines.put(key, clear);
+    }
+
+    return clear;
+  }
+
+  // Walk a Bresenham line between two cells, stopping at the first thing that blocks sight
+  private boolean traces(int fromX, int fromY, int toX, int toY) {
+    int deltaX = Math.abs(toX - fromX);
+    int deltaY = Math.abs(toY - fromY);
+    int stepX = fromX < toX ? 1 : -1;
+    int stepY = fromY < toY ? 1 : -1;
+    int error = deltaX - deltaY;
+
+    int cellX = fromX;
+    int cellY = fromY;
+
+    while (true) {
+      int doubled = error * 2;
+
+      if (doubled > -deltaY) {
+        error -= deltaY;
+        cellX += stepX;
+      }
+
+      if (doubled < deltaX) {
+        error += deltaX;
+        cellY += stepY;
+      }
+
+      if (cellX == toX && cellY == toY) {
+        return true;
+      }
+
+      if (map.isOpaque(cellX, cellY)) {
+        return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package me.dannytatom.xibalba.world;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import me.dannytatom.xibalba.components.AttributesComponent;
+import me.dannytatom.xibalba.utils.ComponentMappers;
+
+/**
+ * Noise spreading out over a level. Noises flood out a step at a time, going around walls rather
+ * than through them, until they've gone as far as they're loud. Anyone they reach who can hear
+ * that far remembers who made it, see EntityHelpers.canHear.
+ */
+public class MapSound {
+  // How many steps different noises carry
+  public static final int FOOTSTEPS = 5;
+  public static final int IMPACT = 10;
+  public static final int COMBAT = 15;
+
+  private static final int[] STEPS_X = {-1, 0, 1, -1, 1, -1, 0, 1};
+  private static final int[] STEPS_Y = {-1, -1, -1, 0, 0, 1, 1, 1};
+
+  private final Map map;
+  private final int[] steps;
+  private final int[] flooded;
+  private final IntArray frontier;
+  private int flood = 0;
+
+  /**
+   * Sound for a level.
+   *
+   * @param map The level map
+   */
+  MapSound(Map map) {
+    this.map = map;
+    this.steps = new int[map.width * map.height];
+    this.flooded = new int[map.width * map.height];
+    this.frontier = new IntArray();
+  }
+
+  /**
+   * Make some noise, and let everyone who can hear it know who made it.
+   *
+   * @param source   Who's making it
+   * @param cellX    x of where it's made
+   * @param cellY    y of where it's made
+   * @param loudness How many steps it carries
+   */
+  public void makeNoise(Entity source, int cellX, int cellY, int loudness) {
+    // Cells flooded by an earlier noise have an older flood number, so nothing needs clearing
+    flood += 1;
+    frontier.clear();
+
+    visit(cellX * map.height + cellY, 0);
+
+    for (int next = 0; next < frontier.size; next++) {
+      int index = frontier.get(next);
+      int x = index / map.height;
+      int y = index % map.height;
+
+      notifyListeners(source, x, y, steps[index], loudness);
+
+      if (steps[index] >= loudness) {
+        continue;
+      }
+
+      for (int i = 0; i < STEPS_X.length; i++) {
+        int neighbourX = x + STEPS_X[i];
+        int neighbourY = y + STEPS_Y[i];
+
+        if (neighbourX >= 0 && neighbourY >= 0 && neighbourX < map.width
+            && neighbourY < map.height && !map.isOpaque(neighbourX, neighbourY)) {
+          visit(neighbourX * map.height + neighbourY, steps[index] + 1);
+        }
+      }
+    }
+  }
+
+  private void visit(int index, int step) {
+    if (flooded[index] != flood) {
+      flooded[index] = flood;
+      steps[index] = step;
+      frontier.add(index);
+    }
+  }
+
+  private void notifyListeners(Entity source, int cellX, int cellY, int step, int loudness) {
+    Array<Entity> entities = map.spatialIndex.get(cellX, cellY);
+
+    for (int i = 0; i < entities.size; i++) {
+      Entity listener = entities.get(i);
+      AttributesComponent attributes = ComponentMappers.attributes.get(listener);
+
+      if (listener != source && attributes != null && step <= attributes.hearing) {
+        hear(attributes.heard, source);
+
+        // Enemies wandering about would keep waking each other up otherwise
+        if (source == WorldManager.player || loudness >= IMPACT) {
+          attributes.heardOn = WorldManager.turnCount;
+        }
+      }
+    }
+  }
+
+  // Remember who was heard this turn, and forget anyone not heard for a while
+  private static void hear(ObjectIntMap<Entity> heard, Entity source) {
+    if (heard.size > 8) {
+      ObjectIntMap.Entries<Entity> entries = heard.entries();
+
+      while (entries.hasNext()) {
+        if (entries.next().value < WorldManager.turnCount - 1) {
+          entries.remove();
+        }
+      }
+    }
+
+    heard.put(source, WorldManager.turnCount);
+  }
+}
@@ -0,0 +1,126 @@
+package me.dannytatom.xibalba.world;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import me.dannytatom.xibalba.components.PositionComponent;
+import me.dannytatom.xibalba.utils.ComponentMappers;
+
+public class MapSpatialIndex {
+  private static final Array<Entity> EMPTY = new Array<>(0);
+
+  private final int width;
+  private final int height;
+  private final Array<Entity>[] cells;
+  private final ObjectIntMap<Entity> indexed;
+  private final MapChunks chunks;
+
+  /**
+   * Keeps track of which entities are standing in which cell, so looking up what's at a position
+   * doesn't mean going through every entity on the map.
+   *
+   * @param width  Map width
+   * @param height Map height
+   * @param chunks Chunks of the same map, all marked dirty when the index gets rebuilt
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  MapSpatialIndex(int width, int height, MapChunks chunks) {
+    this.width = width;
+    this.height = height;
+    this.cells = new Array[width * height];
+    this.indexed = new ObjectIntMap<>();
+    this.chunks = chunks;
+  }
+
+  /**
+   * Place an entity in a cell, removing it from whatever cell it was in before.
+   *
+   * @param entity The entity
+   * @param cellX  x
+   * @param cellY  y
+   */
+  public void put(Entity entity, int cellX, int cellY) {
+    if (!contains(cellX, cellY)) {
+      remove(entity);
+
+      return;
+    }
+
+    int cell = cellX * height + cellY;
+    int current = indexed.get(entity, -1);
+
+    if (current == cell) {
+      return;
+    }
+
+    if (current != -1) {
+      cells[current].removeValue(entity, true);
+    }
+
+    if (cells[cell] == null) {
+      cells[cell] = new Array<>(true, 2);
+    }
+
+    cells[cell].add(entity);
+    indexed.put(entity, cell);
+  }
+
+  /**
+   * Take an entity out of the index.
+   *
+   * @param entity The entity
+   */
+  public void remove(Entity entity) {
+    int current = indexed.remove(entity, -1);
+
+    if (current != -1) {
+      cells[current].removeValue(entity, true);
+    }
+  }
+
+  /**
+   * Everything standing in a cell. Don't modify what you get back.
+   *
+   * @param cellX x
+   * @param cellY y
+   * @return Entities in that cell, in the order they arrived
+   */
+  public Array<Entity> get(int cellX, int cellY) {
+    if (!contains(cellX, cellY)) {
+      return EMPTY;
+    }
+
+    Array<Entity> entities = cells[cellX * height + cellY];
+
+    return entities == null ? EMPTY : entities;
+  }
+
+  /**
+   * Throw away the index and rebuild it from a list of entities.
+   *
+   * @param entities Entities living on this map
+   */
+  public void rebuild(Array<Entity> entities) {
+    for (Array<Entity> cell : cells) {
+      if (cell != null) {
+        cell.clear();
+      }
+    }
+
+    indexed.clear();
+    chunks.markAllDirty();
+
+    for (Entity entity : entities) {
+      PositionComponent position = ComponentMappers.position.get(entity);
+
+      if (position != null) {
+        put(entity, (int) position.pos.x, (int) position.pos.y);
+      }
+    }
+  }
+
+  private boolean contains(int cellX, int cellY) {
+    return cellX >= 0 && cellX < width && cellY >= 0 && cellY < height;
+  }
+}
@@ -0,0 +1,84 @@
+package me.dannytatom.xibalba.world;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * A path through the map, with each cell packed into a single int. Steps get taken off the front
+ * by moving a cursor along rather than shifting everything over, and clearing it keeps the
+ * backing array around, so one path can be refilled and walked forever without allocating.
+ */
+public class Path {
+  private final IntArray cells;
+  private int cursor;
+
+  public Path() {
+    cells = new IntArray(true, 16);
+    cursor = 0;
+  }
+
+  public void clear() {
+    cells.clear();
+    cursor = 0;
+  }
+
+  public void add(int cellX, int cellY) {
+    cells.add(cellX << 16 | cellY);
+  }
+
+  /**
+   * How many steps are left.
+   *
+   * @return Steps left
+   */
+  public int size() {
+    return cells.size - cursor;
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * x of a step, counting from the next one.
+   *
+   * @param index Which step
+   * @return x
+   */
+  public int getX(int index) {
+    return cells.get(cursor + index) >>> 16;
+  }
+
+  /**
+   * y of a step, counting from the next one.
+   *
+   * @param index Which step
+   * @return y
+   */
+  public int getY(int index) {
+    return cells.get(cursor + index) & 0xFFFF;
+  }
+
+  /**
+   * Take the next step off the path.
+   */
+  public void removeFirst() {
+    cursor += 1;
+
+    if (cursor >= cells.size) {
+      clear();
+    }
+  }
+
+  /**
+   * Whether or not this path ends at a position.
+   *
+   * @param position The position
+   * @return If it does
+   */
+  public boolean endsAt(Vector2 position) {
+    return !isEmpty()
+        && getX(size() - 1) == (int) position.x
+        && getY(size() - 1) == (int) position.y;
+  }
+}
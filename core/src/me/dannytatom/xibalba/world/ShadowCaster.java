@@ -5,44 +5,86 @@ public class ShadowCaster {
   private int height;
   private int startX;
   private int startY;
-  private float[][] lightMap;
-  private float[][] resistanceMap;
+  private FovWindow lightMap;
+  private Map map;
   private float radius;
 
+  // Distances and slopes for every cell within reach, so casting doesn't work them out
+  // (or call sqrt) over and over. Indexed by distance * (reach + 1) + offset.
+  private int reach = -1;
+  private float[] distances;
+  private float[] leftSlopes;
+  private float[] rightSlopes;
+
   /**
    * http://www.roguebasin.com/index.php?title=Improved_Shadowcasting_in_Java
    *
-   * <p>Calculates the Field Of View for the provided world from the given x, y coordinates. Returns
-   * a light map for a result where the values represent a percentage of fully lit.
+   * <p>Calculates the Field Of View for the provided world from the given x, y coordinates. Fills
+   * in a light map where the values represent a percentage of fully lit. The light map only covers
+   * the cells within the radius, and it's whatever window the caller passes in, so nothing gets
+   * allocated once the caller's window and this caster have grown big enough.
    *
    * <p>A value equal to or below 0means that cell is not in the field of view, whereas a value
    * equal to or above 1 means that cell is in the field of view.
    *
-   * @param resistanceMap the grid of cells to calculate on where 0 is transparent and 1 is opaque
+   * @param map           the map to calculate on, see Map.isOpaque for what blocks sight
    * @param startX        the horizontal component of the starting location
    * @param startY        the vertical component of the starting location
    * @param radius        the maximum distance to draw the FOV
-   * @return the computed light grid
+   * @param lightMap      where to put the computed light grid
    */
-  public float[][] calculateFov(float[][] resistanceMap, int startX, int startY, float radius) {
+  public void calculateFov(Map map, int startX, int startY, float radius, FovWindow lightMap) {
     this.startX = startX;
     this.startY = startY;
     this.radius = radius;
-    this.resistanceMap = resistanceMap;
+    this.map = map;
+    this.lightMap = lightMap;
+
+    width = map.width;
+    height = map.height;
 
-    width = resistanceMap.length;
-    height = resistanceMap[0].length;
-    lightMap = new float[width][height];
+    int reach = Math.max(0, (int) radius);
+    createTables(reach);
+
+    lightMap.reset(
+        Math.max(0, startX - reach), Math.max(0, startY - reach),
+        Math.min(width - 1, startX + reach), Math.min(height - 1, startY + reach)
+    );
 
     float force = 1;
-    lightMap[startX][startY] = force; // light the starting cell
+    lightMap.set(startX, startY, force); // light the starting cell
 
     for (Direction d : Direction.DIAGONALS) {
       castLight(1, 1.0f, 0.0f, 0, d.deltaX, d.deltaY, 0);
       castLight(1, 1.0f, 0.0f, d.deltaX, 0, 0, d.deltaY);
     }
 
-    return lightMap;
+    this.map = null;
+    this.lightMap = null;
+  }
+
+  private void createTables(int reach) {
+    if (reach <= this.reach) {
+      return;
+    }
+
+    this.reach = reach;
+
+    int stride = reach + 1;
+    distances = new float[stride * stride];
+    leftSlopes = new float[stride * stride];
+    rightSlopes = new float[stride * stride];
+
+    for (int distance = 0; distance <= reach; distance++) {
+      for (int offset = 0; offset <= reach; offset++) {
+        int index = distance * stride + offset;
+
+        // Cells get cast with deltaX = -offset and deltaY = -distance
+        distances[index] = (float) Math.sqrt(distance * distance + offset * offset);
+        leftSlopes[index] = (-offset - 0.5f) / (-distance + 0.5f);
+        rightSlopes[index] = (-offset + 0.5f) / (-distance - 0.5f);
+      }
+    }
   }
 
   private void castLight(int row, float start, float end, int xx, int xy, int yx, int yy) {
@@ -61,8 +103,9 @@ public class ShadowCaster {
         int currentX = startX + deltaX * xx + deltaY * xy;
         int currentY = startY + deltaX * yx + deltaY * yy;
 
-        float leftSlope = (deltaX - 0.5f) / (deltaY + 0.5f);
-        float rightSlope = (deltaX + 0.5f) / (deltaY - 0.5f);
+        int index = distance * (reach + 1) - deltaX;
+        float leftSlope = leftSlopes[index];
+        float rightSlope = rightSlopes[index];
 
         if (
             !(currentX >= 0 && currentY >= 0 && currentX < this.width && currentY < this.height)
@@ -74,15 +117,15 @@ public class ShadowCaster {
         }
 
         // Check if it's within the lightable area and light if needed
-        if (radius(deltaX, deltaY) <= radius) {
-          float bright = (1 - (radius(deltaX, deltaY) / radius));
-          lightMap[currentX][currentY] = bright;
+        if (distances[index] <= radius) {
+          float bright = (1 - (distances[index] / radius));
+          lightMap.set(currentX, currentY, bright);
         }
 
         if (blocked) {
           // Previous cell was a blocking one
 
-          if (resistanceMap[currentX][currentY] >= 1) {
+          if (map.isOpaque(currentX, currentY)) {
             // Hit a wall
 
             newStart = rightSlope;
@@ -91,7 +134,7 @@ public class ShadowCaster {
             start = newStart;
           }
         } else {
-          if (resistanceMap[currentX][currentY] >= 1 && distance < radius) {
+          if (map.isOpaque(currentX, currentY) && distance < radius) {
             // Hit a wall within sight line
             blocked = true;
             castLight(distance + 1, start, leftSlope, xx, xy, yx, yy);
@@ -102,10 +145,6 @@ public class ShadowCaster {
     }
   }
 
-  private float radius(float dx, float dy) {
-    return (float) Math.sqrt(dx * dx + dy * dy);
-  }
-
   // This was stolen from:
   //
   // https://github.com/SquidPony/SquidLib/blob/master/src/squidpony/squidgrid/util/DirectionIntercardinal.java
@@ -36,14 +36,30 @@ public class World {
     return maps.get(index);
   }
 
+  /**
+   * Add an entity to the current map.
+   *
+   * @param entity Entity to add
+   */
   public void addEntity(Entity entity) {
     entities.get(WorldManager.world.currentMapIndex).add(entity);
     WorldManager.engine.addEntity(entity);
+
+    if (ComponentMappers.position.has(entity)) {
+      Vector2 position = ComponentMappers.position.get(entity).pos;
+      getCurrentMap().spatialIndex.put(entity, (int) position.x, (int) position.y);
+    }
   }
 
+  /**
+   * Remove an entity from the current map.
+   *
+   * @param entity Entity to remove
+   */
   public void removeEntity(Entity entity) {
     entities.get(WorldManager.world.currentMapIndex).removeValue(entity, true);
     WorldManager.engine.removeEntity(entity);
+    getCurrentMap().spatialIndex.remove(entity);
   }
 
   /**
@@ -52,13 +68,14 @@ public class World {
   public void setup(Main main) {
     this.main = main;
 
+    getCurrentMap().spatialIndex.rebuild(entities.get(currentMapIndex));
+
     for (Entity entity : entities.get(currentMapIndex)) {
       WorldManager.engine.addEntity(entity);
-
-      if (ComponentMappers.attributes.has(entity)) {
-        WorldManager.entityHelpers.updateSenses(entity);
-      }
     }
+
+    // Once everyone's in the engine, so the player can sense them
+    WorldManager.entityHelpers.updateSenses(WorldManager.player);
   }
 
   private void changeDepth(int change) {
@@ -67,6 +84,7 @@ public class World {
 
     entities.get(currentMapIndex).removeValue(WorldManager.player, true);
     entities.get(currentMapIndex + change).add(WorldManager.player);
+    getCurrentMap().spatialIndex.remove(WorldManager.player);
 
     currentMapIndex += change;
 
@@ -76,26 +94,25 @@ public class World {
     }
 
     WorldManager.engine.removeAllEntities();
+    getCurrentMap().spatialIndex.rebuild(entities.get(currentMapIndex));
 
     for (Entity entity : entities.get(currentMapIndex)) {
       WorldManager.engine.addEntity(entity);
 
-      if (ComponentMappers.attributes.has(entity)) {
-        if (ComponentMappers.player.has(entity)) {
-          entity.remove(MouseMovementComponent.class);
-
-          Vector2 position = change > 0
-              ? WorldManager.world.getCurrentMap().entrance
-              : WorldManager.world.getCurrentMap().exit;
+      if (ComponentMappers.player.has(entity)) {
+        entity.remove(MouseMovementComponent.class);
 
-          WorldManager.entityHelpers.updatePosition(entity, position.x, position.y);
-          WorldManager.entityHelpers.updateSprite(entity, position.x, position.y);
-        }
+        Vector2 position = change > 0
+            ? WorldManager.world.getCurrentMap().entrance
+            : WorldManager.world.getCurrentMap().exit;
 
-        WorldManager.entityHelpers.updateSenses(entity);
+        WorldManager.entityHelpers.updatePosition(entity, position.x, position.y);
+        WorldManager.entityHelpers.updateSprite(entity, position.x, position.y);
       }
     }
 
+    WorldManager.entityHelpers.updateSenses(WorldManager.player);
+
     Main.playScreen = new PlayScreen(main);
     main.setScreen(Main.playScreen);
   }
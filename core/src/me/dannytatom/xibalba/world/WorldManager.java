@@ -3,24 +3,28 @@ package me.dannytatom.xibalba.world;
 import aurelienribon.tweenengine.Tween;
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.signals.Signal;
 import com.badlogic.gdx.utils.Array;
 
 import me.dannytatom.xibalba.ActionLog;
+import me.dannytatom.xibalba.Main;
+import me.dannytatom.xibalba.components.AttributesComponent;
 import me.dannytatom.xibalba.helpers.CombatHelpers;
 import me.dannytatom.xibalba.helpers.EntityHelpers;
 import me.dannytatom.xibalba.helpers.InputHelpers;
 import me.dannytatom.xibalba.helpers.ItemHelpers;
 import me.dannytatom.xibalba.helpers.MapHelpers;
-import me.dannytatom.xibalba.systems.AbilitiesSystem;
+import me.dannytatom.xibalba.helpers.StatusHelpers;
 import me.dannytatom.xibalba.systems.AttributesSystem;
 import me.dannytatom.xibalba.systems.BrainSystem;
 import me.dannytatom.xibalba.systems.DeathSystem;
 import me.dannytatom.xibalba.systems.MouseMovementSystem;
+import me.dannytatom.xibalba.systems.SensesSystem;
 import me.dannytatom.xibalba.systems.TileEffectSystem;
+import me.dannytatom.xibalba.systems.TurnScheduler;
+import me.dannytatom.xibalba.systems.actions.ActionSystem;
 import me.dannytatom.xibalba.systems.actions.ExploreSystem;
-import me.dannytatom.xibalba.systems.actions.MeleeSystem;
-import me.dannytatom.xibalba.systems.actions.MovementSystem;
-import me.dannytatom.xibalba.systems.actions.RangeSystem;
 import me.dannytatom.xibalba.systems.statuses.BleedingSystem;
 import me.dannytatom.xibalba.systems.statuses.BurningSystem;
 import me.dannytatom.xibalba.systems.statuses.CharmedSystem;
@@ -35,6 +39,7 @@ import me.dannytatom.xibalba.utils.EntityFactory;
 
 public class WorldManager {
   public static Engine engine;
+  public static TurnScheduler scheduler;
   public static ActionLog log;
   public static World world;
   public static State state;
@@ -46,6 +51,9 @@ public class WorldManager {
   public static CombatHelpers combatHelpers;
   public static EntityHelpers entityHelpers;
   public static ItemHelpers itemHelpers;
+  public static StatusHelpers statusHelpers;
+  public static Signal<Entity> damaged;
+  public static Signal<Entity> enteredCell;
   public static Entity player;
   public static Entity god;
   public static boolean executeTurn;
@@ -57,6 +65,10 @@ public class WorldManager {
   public static void setup() {
     engine = new Engine();
     log = new ActionLog();
+
+    // Water from the last game's maps would keep tweening otherwise
+    Main.tweenManager.killAll();
+
     world = new World();
     tweens = new Array<>();
 
@@ -66,19 +78,26 @@ public class WorldManager {
     entityHelpers = new EntityHelpers();
     itemHelpers = new ItemHelpers();
     combatHelpers = new CombatHelpers();
+    statusHelpers = new StatusHelpers();
+
+    // So systems can wait for something to happen rather than checking everyone every turn
+    damaged = new Signal<>();
+    enteredCell = new Signal<>();
 
     executeTurn = false;
     turnCount = 0;
 
+    // Everyone with energy, in the order systems that use energy go through them
+    scheduler = new TurnScheduler();
+    engine.addEntityListener(Family.all(AttributesComponent.class).get(), scheduler);
+
     // Setup engine (systems are run in order added)
     engine.addSystem(new AttributesSystem());
-    engine.addSystem(new AbilitiesSystem());
     engine.addSystem(new MouseMovementSystem());
     engine.addSystem(new ExploreSystem());
     engine.addSystem(new BrainSystem());
-    engine.addSystem(new RangeSystem());
-    engine.addSystem(new MeleeSystem());
-    engine.addSystem(new MovementSystem());
+    engine.addSystem(new ActionSystem());
+    engine.addSystem(new SensesSystem());
     engine.addSystem(new TileEffectSystem());
     engine.addSystem(new EncumberedSystem());
     engine.addSystem(new CharmedSystem());
@@ -0,0 +1,128 @@
+package me.dannytatom.xibalba.systems.actions;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.signals.Signal;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Before;
+import org.junit.Test;
+
+import me.dannytatom.xibalba.components.AttributesComponent;
+import me.dannytatom.xibalba.components.EnemyComponent;
+import me.dannytatom.xibalba.components.PositionComponent;
+import me.dannytatom.xibalba.components.VisualComponent;
+import me.dannytatom.xibalba.components.actions.Action;
+import me.dannytatom.xibalba.components.actions.ActionsComponent;
+import me.dannytatom.xibalba.helpers.EntityHelpers;
+import me.dannytatom.xibalba.helpers.MapHelpers;
+import me.dannytatom.xibalba.world.Map;
+import me.dannytatom.xibalba.world.MapCell;
+import me.dannytatom.xibalba.world.World;
+import me.dannytatom.xibalba.world.WorldManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ActionSystemTest {
+  private Entity enemy;
+  private AttributesComponent attributes;
+  private ActionsComponent actions;
+
+  /**
+   * A small floor room with a wall just east of an enemy, and just enough of the world around it
+   * for moves to resolve.
+   */
+  @Before
+  public void setUp() {
+    Map map = new Map(1, "forest", new MapCell.Type[5][5]);
+
+    for (int x = 0; x < map.width; x++) {
+      for (int y = 0; y < map.height; y++) {
+        map.setType(x, y, MapCell.Type.FLOOR);
+      }
+    }
+
+    map.setType(3, 2, MapCell.Type.WALL);
+
+    WorldManager.world = new World();
+    WorldManager.world.maps.add(map);
+    WorldManager.mapHelpers = new MapHelpers();
+    WorldManager.entityHelpers = new EntityHelpers();
+    WorldManager.enteredCell = new Signal<>();
+    WorldManager.player = new Entity();
+
+    attributes = new AttributesComponent(
+        "Test", "Test", AttributesComponent.Type.HUMAN, 100, 10, 10, 5, 5, 5
+    );
+    actions = new ActionsComponent();
+
+    enemy = new Entity();
+    enemy.add(new EnemyComponent());
+    enemy.add(new PositionComponent(2, 2));
+    enemy.add(new VisualComponent(new Sprite(), new Vector2(2, 2)));
+    enemy.add(attributes);
+    enemy.add(actions);
+  }
+
+  @Test
+  public void shouldSpendMeleeCostAndEmptyQueue() {
+    Entity entity = new Entity();
+    AttributesComponent attributes = new AttributesComponent(
+        "Test", "Test", AttributesComponent.Type.HUMAN, 100, 10, 10, 5, 5, 5
+    );
+    ActionsComponent actions = new ActionsComponent();
+
+    entity.add(attributes);
+    entity.add(actions);
+
+    actions.melee(null, "body", false);
+    actions.melee(null, "body", false);
+
+    int energy = attributes.energy;
+
+    new ActionSystem().processEntity(entity, 0);
+
+    assertEquals(energy - Action.MELEE_COST * 2, attributes.energy);
+    assertTrue(actions.queue.size == 0);
+  }
+
+  @Test
+  public void shouldSpendMovementCostOnMove() {
+    actions.move(2, 3);
+
+    int energy = attributes.energy;
+
+    new ActionSystem().processEntity(enemy, 0);
+
+    assertEquals(energy - Action.MOVEMENT_COST, attributes.energy);
+    assertEquals(new Vector2(2, 3), enemy.getComponent(PositionComponent.class).pos);
+    assertTrue(WorldManager.world.getCurrentMap().spatialIndex.get(2, 3).contains(enemy, true));
+  }
+
+  @Test
+  public void shouldSpendNothingWhenEnemyIsBlocked() {
+    actions.move(3, 2);
+
+    int energy = attributes.energy;
+
+    new ActionSystem().processEntity(enemy, 0);
+
+    assertEquals(energy, attributes.energy);
+    assertEquals(new Vector2(2, 2), enemy.getComponent(PositionComponent.class).pos);
+    assertTrue(actions.queue.size == 0);
+  }
+
+  @Test
+  public void shouldResolveMoveThenMeleeInOneCall() {
+    actions.move(2, 1);
+    actions.melee(null, "body", false);
+
+    int energy = attributes.energy;
+
+    new ActionSystem().processEntity(enemy, 0);
+
+    assertEquals(energy - Action.MOVEMENT_COST - Action.MELEE_COST, attributes.energy);
+    assertEquals(new Vector2(2, 1), enemy.getComponent(PositionComponent.class).pos);
+    assertTrue(actions.queue.size == 0);
+  }
+}
@@ -1,12 +0,0 @@
-package me.dannytatom.xibalba.systems.actions;
-
-import org.junit.Test;
-
-import static org.junit.Assert.assertTrue;
-
-class MeleeSystemTest {
-  @Test
-  public void shouldRemoveMeleeComponent() {
-    assertTrue(true);
-  }
-}
@@ -0,0 +1,137 @@
+package me.dannytatom.xibalba.world;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ShadowCasterTest {
+  @Test
+  public void shouldMatchTheOldCaster() {
+    Random random = new Random(2000);
+    ShadowCaster caster = new ShadowCaster();
+    FovWindow window = new FovWindow();
+
+    for (int i = 0; i < 2000; i++) {
+      int width = 10 + random.nextInt(50);
+      int height = 10 + random.nextInt(50);
+
+      MapCell.Type[][] geometry = new MapCell.Type[width][height];
+      float[][] resistance = new float[width][height];
+
+      for (int x = 0; x < width; x++) {
+        for (int y = 0; y < height; y++) {
+          geometry[x][y] = random.nextFloat() < .3f ? MapCell.Type.WALL : MapCell.Type.FLOOR;
+          resistance[x][y] = geometry[x][y] == MapCell.Type.WALL ? 1 : 0;
+        }
+      }
+
+      Map map = new Map(0, "forest", geometry);
+
+      for (int x = 0; x < width; x++) {
+        for (int y = 0; y < height; y++) {
+          map.setType(x, y, geometry[x][y]);
+        }
+      }
+
+      int startX = random.nextInt(width);
+      int startY = random.nextInt(height);
+      float radius = 1 + random.nextInt(15);
+
+      float[][] expected = new OldCaster().calculateFov(resistance, startX, startY, radius);
+      caster.calculateFov(map, startX, startY, radius, window);
+
+      for (int x = 0; x < width; x++) {
+        for (int y = 0; y < height; y++) {
+          float actual = window.contains(x, y) ? window.get(x, y) : 0;
+
+          assertEquals("map " + i + " at " + x + "," + y, expected[x][y], actual, 0);
+        }
+      }
+    }
+  }
+
+  // ShadowCaster as it was before it cast into windows, allocating a light map every time
+  private static class OldCaster {
+    private static final int[][] DIAGONALS = {{-1, -1}, {1, -1}, {-1, 1}, {1, 1}};
+
+    private int width;
+    private int height;
+    private int startX;
+    private int startY;
+    private float[][] lightMap;
+    private float[][] resistanceMap;
+    private float radius;
+
+    float[][] calculateFov(float[][] resistanceMap, int startX, int startY, float radius) {
+      this.startX = startX;
+      this.startY = startY;
+      this.radius = radius;
+      this.resistanceMap = resistanceMap;
+
+      width = resistanceMap.length;
+      height = resistanceMap[0].length;
+      lightMap = new float[width][height];
+
+      lightMap[startX][startY] = 1;
+
+      for (int[] d : DIAGONALS) {
+        castLight(1, 1.0f, 0.0f, 0, d[0], d[1], 0);
+        castLight(1, 1.0f, 0.0f, d[0], 0, 0, d[1]);
+      }
+
+      return lightMap;
+    }
+
+    private void castLight(int row, float start, float end, int xx, int xy, int yx, int yy) {
+      float newStart = 0.0f;
+
+      if (start < end) {
+        return;
+      }
+
+      boolean blocked = false;
+
+      for (int distance = row; distance <= radius && !blocked; distance++) {
+        int deltaY = -distance;
+
+        for (int deltaX = -distance; deltaX <= 0; deltaX++) {
+          int currentX = startX + deltaX * xx + deltaY * xy;
+          int currentY = startY + deltaX * yx + deltaY * yy;
+
+          float leftSlope = (deltaX - 0.5f) / (deltaY + 0.5f);
+          float rightSlope = (deltaX + 0.5f) / (deltaY - 0.5f);
+
+          if (!(currentX >= 0 && currentY >= 0 && currentX < width && currentY < height)
+              || start < rightSlope) {
+            continue;
+          } else if (end > leftSlope) {
+            break;
+          }
+
+          if (radius(deltaX, deltaY) <= radius) {
+            lightMap[currentX][currentY] = 1 - (radius(deltaX, deltaY) / radius);
+          }
+
+          if (blocked) {
+            if (resistanceMap[currentX][currentY] >= 1) {
+              newStart = rightSlope;
+            } else {
+              blocked = false;
+              start = newStart;
+            }
+          } else if (resistanceMap[currentX][currentY] >= 1 && distance < radius) {
+            blocked = true;
+            castLight(distance + 1, start, leftSlope, xx, xy, yx, yy);
+            newStart = rightSlope;
+          }
+        }
+      }
+    }
+
+    private float radius(float dx, float dy) {
+      return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+  }
+}